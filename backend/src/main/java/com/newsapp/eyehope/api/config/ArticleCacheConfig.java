@@ -0,0 +1,41 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기사 페이지 / 추출 본문 디스크 캐시 설정
+ */
+@Configuration
+public class ArticleCacheConfig {
+
+    @Value("${news.article-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.article-cache.dir:${java.io.tmpdir}/eyehope-article-cache}")
+    private String dir;
+
+    // 저장 후 이 시간이 지나면 사용하지 않고 삭제
+    @Value("${news.article-cache.ttl-hours:72}")
+    private long ttlHours;
+
+    // 캐시 전체 최대 크기. 넘으면 가장 오래 사용하지 않은 항목부터 삭제
+    @Value("${news.article-cache.max-size-mb:512}")
+    private long maxSizeMb;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getDir() {
+        return dir;
+    }
+
+    public long getTtlHours() {
+        return Math.max(1, ttlHours);
+    }
+
+    public long getMaxSizeBytes() {
+        return Math.max(1, maxSizeMb) * 1024 * 1024;
+    }
+}
@@ -0,0 +1,81 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기사 페이지 다운로드 설정 (ArticleHttpClient)
+ */
+@Configuration
+public class ArticleFetchConfig {
+
+    @Value("${news.article-fetch.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    // 응답 헤더를 받을 때까지의 타임아웃
+    @Value("${news.article-fetch.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    // 요청부터 본문을 다 읽을 때까지의 전체 제한 시간 (본문을 느리게 보내는 서버 대비)
+    @Value("${news.article-fetch.total-timeout-ms:30000}")
+    private long totalTimeoutMs;
+
+    // 같은 언론사 호스트에 동시에 보낼 수 있는 최대 요청 수
+    @Value("${news.article-fetch.max-connections-per-host:4}")
+    private int maxConnectionsPerHost;
+
+    // 호스트별 요청 슬롯을 기다리는 최대 시간
+    @Value("${news.article-fetch.acquire-timeout-ms:30000}")
+    private long acquireTimeoutMs;
+
+    // 압축 해제 후 본문 최대 크기. 넘는 부분은 버리고 앞부분만 파싱한다.
+    @Value("${news.article-fetch.max-body-bytes:2097152}")
+    private int maxBodyBytes;
+
+    // 페이지를 받는 대로 파싱하고 본문을 찾으면 나머지를 받지 않음
+    @Value("${news.article-fetch.streaming:true}")
+    private boolean streaming;
+
+    // 스트리밍 파싱 시 읽을 최대 크기 (본문은 보통 페이지 앞쪽에 있음)
+    @Value("${news.article-fetch.stream-max-bytes:1048576}")
+    private int streamMaxBytes;
+
+    @Value("${news.article-fetch.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36}")
+    private String userAgent;
+
+    public long getConnectTimeoutMs() {
+        return Math.max(1, connectTimeoutMs);
+    }
+
+    public long getRequestTimeoutMs() {
+        return Math.max(1, requestTimeoutMs);
+    }
+
+    public long getTotalTimeoutMs() {
+        return Math.max(getRequestTimeoutMs(), totalTimeoutMs);
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return Math.max(1, maxConnectionsPerHost);
+    }
+
+    public long getAcquireTimeoutMs() {
+        return Math.max(0, acquireTimeoutMs);
+    }
+
+    public int getMaxBodyBytes() {
+        return Math.max(1024, maxBodyBytes);
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public int getStreamMaxBytes() {
+        return Math.max(1024, streamMaxBytes);
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+}
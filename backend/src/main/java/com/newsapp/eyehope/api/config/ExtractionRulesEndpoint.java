@@ -0,0 +1,34 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.service.ExtractionRuleRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 본문 추출 규칙 조회 / 즉시 다시 불러오기 (/actuator/extractionrules)
+ */
+@Component
+@Endpoint(id = "extractionrules")
+@RequiredArgsConstructor
+public class ExtractionRulesEndpoint {
+
+    private final ExtractionRuleRegistry extractionRuleRegistry;
+
+    @ReadOperation
+    public Map<String, Object> rules() {
+        return extractionRuleRegistry.snapshot();
+    }
+
+    /**
+     * extraction_rules 변경 사항을 재시작 없이 반영
+     */
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return Map.of("loaded", extractionRuleRegistry.reload());
+    }
+}
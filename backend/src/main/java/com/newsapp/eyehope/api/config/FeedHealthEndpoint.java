@@ -0,0 +1,46 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.service.FeedHealthRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드별 수집 상태 조회 / 차단 해제 (/actuator/feedhealth)
+ */
+@Component
+@Endpoint(id = "feedhealth")
+@RequiredArgsConstructor
+public class FeedHealthEndpoint {
+
+    private final FeedHealthRegistry feedHealthRegistry;
+
+    @ReadOperation
+    public Map<String, Object> feedHealth() {
+        List<FeedHealthRegistry.FeedHealth> feeds = feedHealthRegistry.snapshot();
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FeedHealthRegistry.State state : FeedHealthRegistry.State.values()) {
+            counts.put(state.name(), feeds.stream().filter(feed -> feed.getState() == state).count());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("counts", counts);
+        result.put("feeds", feeds);
+        return result;
+    }
+
+    /**
+     * 차단된 피드를 즉시 정상 상태로 되돌림
+     */
+    @WriteOperation
+    public Map<String, Object> reset(String url) {
+        return Map.of("url", url, "reset", feedHealthRegistry.reset(url));
+    }
+}
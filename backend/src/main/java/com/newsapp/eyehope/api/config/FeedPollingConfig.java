@@ -0,0 +1,51 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 피드별 적응형 수집 주기 설정
+ */
+@Configuration
+public class FeedPollingConfig {
+
+    // 수집 주기 하한 (초)
+    @Value("${news.polling.min-interval-seconds:300}")
+    private long minIntervalSeconds;
+
+    // 수집 주기 상한 (초)
+    @Value("${news.polling.max-interval-seconds:7200}")
+    private long maxIntervalSeconds;
+
+    // 처음 수집하는 피드의 주기 (초)
+    @Value("${news.polling.initial-interval-seconds:1200}")
+    private long initialIntervalSeconds;
+
+    // 한 번 수집할 때 기대하는 신규 기사 수
+    @Value("${news.polling.target-entries-per-poll:3}")
+    private double targetEntriesPerPoll;
+
+    // 도착률 EWMA 가중치 (0~1, 클수록 최근 관측 반영)
+    @Value("${news.polling.smoothing:0.3}")
+    private double smoothing;
+
+    public long getMinIntervalSeconds() {
+        return minIntervalSeconds;
+    }
+
+    public long getMaxIntervalSeconds() {
+        return Math.max(minIntervalSeconds, maxIntervalSeconds);
+    }
+
+    public long getInitialIntervalSeconds() {
+        return initialIntervalSeconds;
+    }
+
+    public double getTargetEntriesPerPoll() {
+        return targetEntriesPerPoll;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+}
@@ -0,0 +1,44 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드 간 피드 분배(샤딩) 설정
+ */
+@Configuration
+public class FeedShardingConfig {
+
+    // false면 모든 노드가 전체 피드를 대상으로 함 (예정 수집은 리더 노드만 실행)
+    @Value("${news.sharding.enabled:true}")
+    private boolean enabled;
+
+    // heartbeat 및 노드 목록 갱신 주기
+    @Value("${news.sharding.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    // 이 시간 동안 heartbeat가 없으면 죽은 노드로 보고 분배에서 제외
+    @Value("${news.sharding.node-ttl-ms:30000}")
+    private long nodeTtlMs;
+
+    // 해시 링에 노드당 배치할 가상 노드 수 (많을수록 고르게 분배)
+    @Value("${news.sharding.virtual-nodes:128}")
+    private int virtualNodes;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHeartbeatMs() {
+        return Math.max(1000, heartbeatMs);
+    }
+
+    public long getNodeTtlMs() {
+        // heartbeat 한 번 놓쳤다고 빠지지 않도록 최소 두 주기
+        return Math.max(getHeartbeatMs() * 2, nodeTtlMs);
+    }
+
+    public int getVirtualNodes() {
+        return Math.max(1, virtualNodes);
+    }
+}
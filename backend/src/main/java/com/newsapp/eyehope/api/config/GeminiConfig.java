@@ -1,9 +1,7 @@
 package com.newsapp.eyehope.api.config;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class GeminiConfig {
@@ -16,9 +14,8 @@ public class GeminiConfig {
 
     private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/";
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public String getModel() {
+        return model;
     }
 
     public String getApiUrl() {
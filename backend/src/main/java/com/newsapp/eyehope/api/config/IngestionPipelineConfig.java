@@ -0,0 +1,98 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 뉴스 수집 파이프라인 단계별 설정
+ * 각 단계는 자체 워커 수와 제한된 크기의 입력 큐를 갖는다.
+ */
+@Configuration
+public class IngestionPipelineConfig {
+
+    @Value("${news.pipeline.fetch.workers:8}")
+    private int fetchWorkers;
+
+    @Value("${news.pipeline.fetch.queue-capacity:64}")
+    private int fetchQueueCapacity;
+
+    @Value("${news.pipeline.dedup.workers:1}")
+    private int dedupWorkers;
+
+    @Value("${news.pipeline.dedup.queue-capacity:32}")
+    private int dedupQueueCapacity;
+
+    // 한 번에 묶어 저장할 피드 수
+    @Value("${news.pipeline.dedup.batch-size:16}")
+    private int dedupBatchSize;
+
+    @Value("${news.pipeline.extract.workers:8}")
+    private int extractWorkers;
+
+    @Value("${news.pipeline.extract.queue-capacity:100}")
+    private int extractQueueCapacity;
+
+    @Value("${news.pipeline.summarize.workers:2}")
+    private int summarizeWorkers;
+
+    @Value("${news.pipeline.summarize.queue-capacity:50}")
+    private int summarizeQueueCapacity;
+
+    @Value("${news.pipeline.persist.workers:1}")
+    private int persistWorkers;
+
+    @Value("${news.pipeline.persist.queue-capacity:100}")
+    private int persistQueueCapacity;
+
+    // 한 트랜잭션으로 묶어 반영할 요약 수
+    @Value("${news.pipeline.persist.batch-size:20}")
+    private int persistBatchSize;
+
+    public int getFetchWorkers() {
+        return fetchWorkers;
+    }
+
+    public int getFetchQueueCapacity() {
+        return fetchQueueCapacity;
+    }
+
+    public int getDedupWorkers() {
+        return dedupWorkers;
+    }
+
+    public int getDedupQueueCapacity() {
+        return dedupQueueCapacity;
+    }
+
+    public int getDedupBatchSize() {
+        return dedupBatchSize;
+    }
+
+    public int getExtractWorkers() {
+        return extractWorkers;
+    }
+
+    public int getExtractQueueCapacity() {
+        return extractQueueCapacity;
+    }
+
+    public int getSummarizeWorkers() {
+        return summarizeWorkers;
+    }
+
+    public int getSummarizeQueueCapacity() {
+        return summarizeQueueCapacity;
+    }
+
+    public int getPersistWorkers() {
+        return persistWorkers;
+    }
+
+    public int getPersistQueueCapacity() {
+        return persistQueueCapacity;
+    }
+
+    public int getPersistBatchSize() {
+        return persistBatchSize;
+    }
+}
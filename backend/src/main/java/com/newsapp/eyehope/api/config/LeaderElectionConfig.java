@@ -0,0 +1,35 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스케줄 작업 리더 선출 설정 (Postgres advisory lock)
+ */
+@Configuration
+public class LeaderElectionConfig {
+
+    // false이면 리더 선출 없이 모든 노드가 스케줄 작업을 실행 (단일 인스턴스용)
+    @Value("${news.leader.enabled:true}")
+    private boolean enabled;
+
+    // 락 보유 확인 / 획득 시도 간격
+    @Value("${news.leader.renew-ms:15000}")
+    private long renewMs;
+
+    // 마지막 확인 후 이 시간이 지나면 락을 잃은 것으로 보고 스케줄 작업을 멈춘다
+    @Value("${news.leader.lease-ms:45000}")
+    private long leaseMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getRenewMs() {
+        return Math.max(1000, renewMs);
+    }
+
+    public long getLeaseMs() {
+        return Math.max(getRenewMs() * 2, leaseMs);
+    }
+}
@@ -0,0 +1,31 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.service.LeaderElection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 스케줄 작업별 리더 상태 조회 (/actuator/leadership)
+ */
+@Component
+@Endpoint(id = "leadership")
+@RequiredArgsConstructor
+public class LeadershipEndpoint {
+
+    private final LeaderElection leaderElection;
+    private final LeaderElectionConfig leaderElectionConfig;
+
+    @ReadOperation
+    public Map<String, Object> leadership() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nodeId", leaderElection.getNodeId());
+        result.put("enabled", leaderElectionConfig.isEnabled());
+        result.put("tasks", leaderElection.snapshot());
+        return result;
+    }
+}
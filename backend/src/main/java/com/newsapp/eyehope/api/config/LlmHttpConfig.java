@@ -0,0 +1,42 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM API 호출 설정 (LlmHttpClient)
+ */
+@Configuration
+public class LlmHttpConfig {
+
+    @Value("${news.llm-http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    // 요청을 보낸 뒤 응답을 받을 때까지의 타임아웃 (LLM 생성 시간 포함)
+    @Value("${news.llm-http.request-timeout-ms:120000}")
+    private long requestTimeoutMs;
+
+    // HttpClient 내부 I/O 처리 스레드 수 (요청 수와 무관)
+    @Value("${news.llm-http.io-threads:2}")
+    private int ioThreads;
+
+    // 응답 처리(파싱, 캐시 저장, 다음 단계 전달) 스레드 수
+    @Value("${news.llm-http.callback-threads:4}")
+    private int callbackThreads;
+
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public long getRequestTimeoutMs() {
+        return requestTimeoutMs;
+    }
+
+    public int getIoThreads() {
+        return Math.max(1, ioThreads);
+    }
+
+    public int getCallbackThreads() {
+        return Math.max(1, callbackThreads);
+    }
+}
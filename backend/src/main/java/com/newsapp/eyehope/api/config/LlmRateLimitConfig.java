@@ -0,0 +1,80 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM 제공자별 호출 한도 설정 (LlmRateLimiter)
+ * 분당 요청 수 / 분당 토큰 수가 0이면 해당 한도를 두지 않는다. 최대 동시 호출 수는 news.summarize.concurrency를 따른다.
+ */
+@Configuration
+public class LlmRateLimitConfig {
+
+    @Value("${news.llm-rate-limit.openrouter.rpm:0}")
+    private int openRouterRpm;
+
+    @Value("${news.llm-rate-limit.openrouter.tpm:0}")
+    private int openRouterTpm;
+
+    @Value("${news.llm-rate-limit.gemini.rpm:0}")
+    private int geminiRpm;
+
+    @Value("${news.llm-rate-limit.gemini.tpm:0}")
+    private int geminiTpm;
+
+    @Value("${news.llm-rate-limit.local.rpm:0}")
+    private int localRpm;
+
+    @Value("${news.llm-rate-limit.local.tpm:0}")
+    private int localTpm;
+
+    // 요청 전 토큰 한도 계산 시 프롬프트에 더하는 예상 응답 토큰 수 (응답 후 실제 사용량으로 정산)
+    @Value("${news.llm-rate-limit.expected-completion-tokens:300}")
+    private int expectedCompletionTokens;
+
+    // 한도 대기 최대 시간. 넘으면 실패로 보고 라우터가 다른 제공자로 넘긴다.
+    @Value("${news.llm-rate-limit.max-wait-ms:60000}")
+    private long maxWaitMs;
+
+    // 429 / 과부하 응답 시 동시 호출 한도에 곱하는 값 (AIMD 감소)
+    @Value("${news.llm-rate-limit.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    // 429 / 과부하 응답에 Retry-After가 없을 때 요청을 멈추는 시간
+    @Value("${news.llm-rate-limit.backoff-ms:2000}")
+    private long backoffMs;
+
+    public int getRequestsPerMinute(String provider) {
+        return Math.max(0, switch (provider) {
+            case SummarizationConfig.PROVIDER_OPENROUTER -> openRouterRpm;
+            case SummarizationConfig.PROVIDER_GEMINI -> geminiRpm;
+            case SummarizationConfig.PROVIDER_LOCAL -> localRpm;
+            default -> 0;
+        });
+    }
+
+    public int getTokensPerMinute(String provider) {
+        return Math.max(0, switch (provider) {
+            case SummarizationConfig.PROVIDER_OPENROUTER -> openRouterTpm;
+            case SummarizationConfig.PROVIDER_GEMINI -> geminiTpm;
+            case SummarizationConfig.PROVIDER_LOCAL -> localTpm;
+            default -> 0;
+        });
+    }
+
+    public int getExpectedCompletionTokens() {
+        return Math.max(0, expectedCompletionTokens);
+    }
+
+    public long getMaxWaitMs() {
+        return Math.max(1, maxWaitMs);
+    }
+
+    public double getDecreaseFactor() {
+        return Math.min(0.95, Math.max(0.1, decreaseFactor));
+    }
+
+    public long getBackoffMs() {
+        return Math.max(0, backoffMs);
+    }
+}
@@ -1,6 +1,7 @@
 package com.newsapp.eyehope.api.config;
 
-import com.newsapp.eyehope.api.service.NewsService;
+import com.newsapp.eyehope.api.service.IngestionCoordinator;
+import com.newsapp.eyehope.api.service.LeaderElection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,17 +12,24 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NewsScheduler {
 
-    private final NewsService newsService;
+    private final IngestionCoordinator ingestionCoordinator;
+    private final LeaderElection leaderElection;
+    private final FeedShardingConfig feedShardingConfig;
 
     /**
-     * 20분마다 자동으로 뉴스 수집 실행
+     * 주기적으로 수집 예정 시각이 지난 피드만 수집
+     * 피드별 수집 주기는 FeedPollingPolicy가 신규 기사 도착률로 조정한다.
+     * 수동 수집과 겹치지 않도록 IngestionCoordinator를 통해 실행하며, 이전 수집이 진행 중이면 합쳐진다.
+     * 노드 분배가 켜져 있으면 모든 노드가 자기 몫의 피드를 수집하고, 꺼져 있으면 리더 노드에서만 실행한다.
      */
-    @Scheduled(fixedRate = 1200000) // 20분(1200,000 밀리초)마다 실행
+    @Scheduled(fixedDelayString = "${news.polling.tick-ms:60000}")
     public void scheduleNewsCollection() {
-        log.info("스케줄링된 뉴스 수집 시작");
+        if (!feedShardingConfig.isEnabled() && !leaderElection.isLeader(LeaderElection.TASK_NEWS_COLLECTION)) {
+            return;
+        }
+        log.debug("스케줄링된 뉴스 수집 요청");
         try {
-            newsService.collectAllNews();
-            log.info("스케줄링된 뉴스 수집 완료");
+            ingestionCoordinator.collectDue();
         } catch (Exception e) {
             log.error("스케줄링된 뉴스 수집 중 오류 발생: {}", e.getMessage(), e);
             // 스케줄러는 계속 실행되어야 하므로 예외를 다시 던지지 않음
@@ -0,0 +1,25 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 노드 식별 설정
+ * 리더 선출, 피드 분배(backend_nodes), 요약 작업 임대(summary_tasks.locked_by)가 모두 같은 노드 ID를 사용한다.
+ */
+@Configuration
+public class NodeConfig {
+
+    // 노드 식별자 (비어 있으면 pid@host)
+    @Value("${news.node-id:}")
+    private String nodeId;
+
+    public String getNodeId() {
+        if (nodeId == null || nodeId.isBlank()) {
+            return ManagementFactory.getRuntimeMXBean().getName();
+        }
+        return nodeId;
+    }
+}
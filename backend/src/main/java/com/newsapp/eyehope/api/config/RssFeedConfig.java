@@ -2,12 +2,14 @@ package com.newsapp.eyehope.api.config;
 
 import com.newsapp.eyehope.api.domain.News;
 import com.newsapp.eyehope.api.repository.NewsRepository;
+import com.newsapp.eyehope.api.service.NodeMembership;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,9 +22,11 @@ public class RssFeedConfig {
         private String url;
         private String category;
         private String source;
+        private Long feedId; // news 테이블 행 ID
 
         public static FeedInfo fromNews(News news) {
             FeedInfo feedInfo = new FeedInfo();
+            feedInfo.setFeedId(news.getId());
             feedInfo.setUrl(news.getRss());
             feedInfo.setCategory(news.getCategory());
             feedInfo.setSource(news.getPressName());
@@ -30,12 +34,20 @@ public class RssFeedConfig {
         }
     }
 
+    /**
+     * 수집 대상 피드 조회
+     * 여러 노드가 떠 있으면 NodeMembership이 이 노드에 배정한 피드만 반환한다.
+     */
     @Component
     @RequiredArgsConstructor
     public static class FeedProvider {
         private final NewsRepository newsRepository;
+        private final NodeMembership nodeMembership;
 
-        public List<FeedInfo> getFeeds() {
+        /**
+         * 노드 분배와 관계없이 전체 피드
+         */
+        public List<FeedInfo> getAllFeeds() {
             List<FeedInfo> feeds = new ArrayList<>();
             List<News> newsEntities = newsRepository.findAllWithPressOrderByCategory();
 
@@ -47,5 +59,27 @@ public class RssFeedConfig {
 
             return feeds;
         }
+
+        /**
+         * 이 노드가 담당하는 피드 중 다음 수집 예정 시각이 지난 피드만 조회
+         */
+        public List<FeedInfo> getDueFeeds(LocalDateTime now) {
+            List<FeedInfo> feeds = new ArrayList<>();
+            List<News> newsEntities = newsRepository.findAllWithPressOrderByCategory();
+
+            for (News news : newsEntities) {
+                if (news.getRss() == null || news.getRss().isEmpty()) {
+                    continue;
+                }
+                if (!nodeMembership.owns(news.getId())) {
+                    continue;
+                }
+                if (news.getNextPollAt() == null || !news.getNextPollAt().isAfter(now)) {
+                    feeds.add(FeedInfo.fromNews(news));
+                }
+            }
+
+            return feeds;
+        }
     }
 }
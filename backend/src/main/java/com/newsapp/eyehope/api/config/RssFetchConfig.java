@@ -0,0 +1,50 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RSS 피드 동시 수집 설정
+ */
+@Configuration
+public class RssFetchConfig {
+
+    // 같은 언론사 호스트에 동시에 보낼 수 있는 최대 요청 수
+    @Value("${rss.fetch.per-host-concurrency:2}")
+    private int perHostConcurrency;
+
+    // 피드 하나당 연결/읽기 타임아웃
+    @Value("${rss.fetch.timeout-ms:15000}")
+    private int timeoutMs;
+
+    // 연속으로 이 횟수만큼 실패하면 피드를 차단(OPEN)
+    @Value("${rss.fetch.circuit.failure-threshold:3}")
+    private int circuitFailureThreshold;
+
+    // 첫 차단 시간. 재시도(HALF_OPEN)에서 다시 실패할 때마다 두 배로 늘어난다.
+    @Value("${rss.fetch.circuit.base-backoff-seconds:60}")
+    private long circuitBaseBackoffSeconds;
+
+    @Value("${rss.fetch.circuit.max-backoff-seconds:3600}")
+    private long circuitMaxBackoffSeconds;
+
+    public int getPerHostConcurrency() {
+        return Math.max(1, perHostConcurrency);
+    }
+
+    public int getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public int getCircuitFailureThreshold() {
+        return Math.max(1, circuitFailureThreshold);
+    }
+
+    public long getCircuitBaseBackoffSeconds() {
+        return Math.max(1, circuitBaseBackoffSeconds);
+    }
+
+    public long getCircuitMaxBackoffSeconds() {
+        return Math.max(getCircuitBaseBackoffSeconds(), circuitMaxBackoffSeconds);
+    }
+}
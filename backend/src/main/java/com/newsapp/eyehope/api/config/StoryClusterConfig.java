@@ -0,0 +1,35 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유사 기사 묶음(스토리 클러스터) 설정
+ */
+@Configuration
+public class StoryClusterConfig {
+
+    @Value("${news.cluster.enabled:true}")
+    private boolean enabled;
+
+    // 이 시간 안에 들어온 기사끼리만 같은 사건으로 묶는다
+    @Value("${news.cluster.window-minutes:180}")
+    private long windowMinutes;
+
+    // 대표 기사와의 MinHash 자카드 유사도가 이 값 이상이면 같은 사건으로 본다
+    // 같은 사건 기사는 0.3 안팎부터 나오므로, 잘못 묶지 않도록 그보다 충분히 높게 둔다
+    @Value("${news.cluster.similarity-threshold:0.5}")
+    private double similarityThreshold;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getWindowMinutes() {
+        return Math.max(1, windowMinutes);
+    }
+
+    public double getSimilarityThreshold() {
+        return Math.max(0.0, Math.min(1.0, similarityThreshold));
+    }
+}
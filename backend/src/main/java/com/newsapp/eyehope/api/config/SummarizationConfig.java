@@ -0,0 +1,129 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기사 요약(LLM 호출) 설정
+ */
+@Configuration
+public class SummarizationConfig {
+
+    public static final String PROVIDER_OPENROUTER = "openrouter";
+    public static final String PROVIDER_GEMINI = "gemini";
+    public static final String PROVIDER_LOCAL = "local";
+
+    // 제공자별 동시 호출 수 (응답을 기다리는 동안 스레드를 점유하지 않으므로 제공자 한도에 맞춤)
+    @Value("${news.summarize.concurrency.openrouter:64}")
+    private int openRouterConcurrency;
+
+    @Value("${news.summarize.concurrency.gemini:5}")
+    private int geminiConcurrency;
+
+    // 로컬 llama-server는 동시 처리 슬롯 수에 맞춤
+    @Value("${news.summarize.concurrency.local:2}")
+    private int localConcurrency;
+
+    // 요약에 사용하는 원격 제공자 (앞에 있을수록 통계가 없을 때 우선)
+    @Value("${news.summarize.routing.providers:openrouter,gemini}")
+    private String routingProviders;
+
+    // 원격 제공자가 느리거나 동시 호출이 가득 차면 로컬 LLM이 넘치는 요청을 받음
+    @Value("${news.summarize.routing.local-overflow:true}")
+    private boolean localOverflow;
+
+    // 원격 제공자의 평균 응답 시간이 이보다 길면 로컬 LLM으로 넘김
+    @Value("${news.summarize.routing.overflow-latency-ms:20000}")
+    private long overflowLatencyMs;
+
+    // 응답 시간 / 오류율 EWMA 가중치
+    @Value("${news.summarize.routing.smoothing:0.2}")
+    private double smoothing;
+
+    // 오류율이 이 값 이상이면 제외하고 probe 간격마다 한 번씩만 시도
+    @Value("${news.summarize.routing.max-error-rate:0.5}")
+    private double maxErrorRate;
+
+    @Value("${news.summarize.routing.probe-interval-ms:30000}")
+    private long probeIntervalMs;
+
+    // 429 응답에 Retry-After가 없을 때 쉬는 시간
+    @Value("${news.summarize.routing.rate-limit-cooldown-seconds:60}")
+    private long rateLimitCooldownSeconds;
+
+    // 제공자별 하루 요청 한도 (0이면 제한 없음)
+    @Value("${news.summarize.daily-quota.openrouter:0}")
+    private int openRouterDailyQuota;
+
+    @Value("${news.summarize.daily-quota.gemini:0}")
+    private int geminiDailyQuota;
+
+    // 요약 전에 상용구 / 중복 문장을 빼고 본문을 토큰 예산에 맞게 줄임
+    @Value("${news.summarize.compaction.enabled:true}")
+    private boolean compactionEnabled;
+
+    // 프롬프트에 넣을 본문 토큰 예산 (TokenEstimator 추정치 기준)
+    @Value("${news.summarize.compaction.token-budget:1500}")
+    private int compactionTokenBudget;
+
+    public int getConcurrency(String provider) {
+        int concurrency = switch (provider) {
+            case PROVIDER_OPENROUTER -> openRouterConcurrency;
+            case PROVIDER_GEMINI -> geminiConcurrency;
+            case PROVIDER_LOCAL -> localConcurrency;
+            default -> 1;
+        };
+        return Math.max(1, concurrency);
+    }
+
+    public List<String> getRoutingProviders() {
+        return Arrays.stream(routingProviders.split(","))
+                .map(String::trim)
+                .filter(provider -> !provider.isEmpty() && !PROVIDER_LOCAL.equals(provider))
+                .distinct()
+                .toList();
+    }
+
+    public boolean isLocalOverflow() {
+        return localOverflow;
+    }
+
+    public long getOverflowLatencyMs() {
+        return overflowLatencyMs;
+    }
+
+    public double getSmoothing() {
+        return Math.min(1.0, Math.max(0.01, smoothing));
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public long getProbeIntervalMs() {
+        return probeIntervalMs;
+    }
+
+    public long getRateLimitCooldownSeconds() {
+        return Math.max(1, rateLimitCooldownSeconds);
+    }
+
+    public int getDailyQuota(String provider) {
+        return switch (provider) {
+            case PROVIDER_OPENROUTER -> Math.max(0, openRouterDailyQuota);
+            case PROVIDER_GEMINI -> Math.max(0, geminiDailyQuota);
+            default -> 0;
+        };
+    }
+
+    public boolean isCompactionEnabled() {
+        return compactionEnabled;
+    }
+
+    public int getCompactionTokenBudget() {
+        return Math.max(100, compactionTokenBudget);
+    }
+}
@@ -0,0 +1,42 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요약 결과 캐시 설정 (메모리 + summary_cache 테이블)
+ */
+@Configuration
+public class SummaryCacheConfig {
+
+    @Value("${news.summary-cache.enabled:true}")
+    private boolean enabled;
+
+    // 메모리 캐시 최대 크기 (요약문 글자 수 합계). 넘으면 가장 오래 사용하지 않은 항목부터 제거
+    @Value("${news.summary-cache.memory-max-chars:4000000}")
+    private long memoryMaxChars;
+
+    // 마지막 사용 후 이 기간이 지난 DB 항목은 삭제
+    @Value("${news.summary-cache.ttl-days:30}")
+    private long ttlDays;
+
+    // 본문만 키로 쓰므로 이보다 짧은 본문(사진 설명, 안내 문구 등 서로 다른 기사에서 겹치기 쉬운 본문)은 캐시하지 않음
+    @Value("${news.summary-cache.min-content-length:300}")
+    private int minContentLength;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMemoryMaxChars() {
+        return Math.max(1, memoryMaxChars);
+    }
+
+    public long getTtlDays() {
+        return Math.max(1, ttlDays);
+    }
+
+    public int getMinContentLength() {
+        return Math.max(0, minContentLength);
+    }
+}
@@ -0,0 +1,43 @@
+package com.newsapp.eyehope.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요약 작업 큐(summary_tasks) 설정
+ */
+@Configuration
+public class SummaryQueueConfig {
+
+    // 워커가 작업을 가져간 뒤 완료해야 하는 시간. 처리 중에는 news.summary-queue.renew-ms마다 연장하며, 노드가 죽어 연장이 멈추면 다른 워커가 다시 가져간다.
+    @Value("${news.summary-queue.lease-seconds:600}")
+    private long leaseSeconds;
+
+    // 이 횟수만큼 실패하면 DEAD 처리
+    @Value("${news.summary-queue.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 대기 시간 (시도 횟수에 비례해 늘어남)
+    @Value("${news.summary-queue.retry-backoff-seconds:120}")
+    private long retryBackoffSeconds;
+
+    // 한 번에 가져갈 작업 수
+    @Value("${news.summary-queue.claim-batch-size:20}")
+    private int claimBatchSize;
+
+    public long getLeaseSeconds() {
+        return Math.max(1, leaseSeconds);
+    }
+
+    public int getMaxAttempts() {
+        return Math.max(1, maxAttempts);
+    }
+
+    public long getRetryBackoffSeconds() {
+        return Math.max(0, retryBackoffSeconds);
+    }
+
+    public int getClaimBatchSize() {
+        return Math.max(1, claimBatchSize);
+    }
+}
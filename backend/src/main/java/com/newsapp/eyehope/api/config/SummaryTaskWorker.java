@@ -0,0 +1,57 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import com.newsapp.eyehope.api.service.IngestionPipeline;
+import com.newsapp.eyehope.api.service.SummaryTaskQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요약 작업 큐를 주기적으로 비우는 워커
+ * 요약에 실패해 재시도 대기 중인 작업과, 처리 중이던 노드가 죽어 임대가 만료된 작업을 가져와 처리한다.
+ * FOR UPDATE SKIP LOCKED로 가져가므로 여러 노드에서 동시에 실행되어도 같은 작업을 중복 처리하지 않는다.
+ * 처리 중인 작업은 renew-ms마다 임대를 연장한다 (lease-seconds보다 충분히 짧게 설정).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryTaskWorker {
+
+    private final SummaryTaskQueue summaryTaskQueue;
+    private final IngestionPipeline ingestionPipeline;
+
+    @Scheduled(initialDelayString = "${news.summary-queue.initial-delay-ms:60000}",
+            fixedDelayString = "${news.summary-queue.poll-ms:60000}")
+    public void drain() {
+        try {
+            while (true) {
+                List<ClaimedTask> tasks = summaryTaskQueue.claim();
+                if (tasks.isEmpty()) {
+                    return;
+                }
+                ingestionPipeline.resume(tasks);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 가져간 작업은 임대가 만료되면 다시 처리되므로 예외를 다시 던지지 않음
+            log.error("요약 작업 큐 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이 노드가 처리 중인 작업의 임대 연장 (본문 추출, LLM 대기가 길어져도 다른 워커가 가져가지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${news.summary-queue.renew-ms:120000}")
+    public void renewLeases() {
+        try {
+            summaryTaskQueue.renewLeases();
+        } catch (Exception e) {
+            log.error("요약 작업 임대 연장 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
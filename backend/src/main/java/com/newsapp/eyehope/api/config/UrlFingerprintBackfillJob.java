@@ -0,0 +1,166 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.domain.Posts;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.service.LeaderElection;
+import com.newsapp.eyehope.api.util.UrlFingerprint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 posts 행의 url_hash 백필 작업
+ * url_hash가 없는 행을 ID 순으로 500건씩 짧은 트랜잭션에서 채운다.
+ * 이미 같은 지문을 가진 행이 있으면(과거에 중복 저장된 기사) 해당 행은 비워둔다.
+ * 이런 행은 같은 지문을 가진 행이 유니크 제약으로 중복을 걸러주므로, 지문의 주인이 없는 행이 남아 있지 않으면 완료로 본다.
+ */
+@Slf4j
+@Component
+public class UrlFingerprintBackfillJob {
+
+    private final PostsRepository postsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaderElection leaderElection;
+    private final long checkIntervalNanos;
+
+    // 새 기사는 항상 url_hash와 함께 저장되므로 한 번 완료되면 다시 미완료가 되지 않는다
+    private volatile boolean completed = false;
+    private volatile long checkedAtNanos;
+    private volatile boolean checked = false;
+
+    public UrlFingerprintBackfillJob(PostsRepository postsRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     LeaderElection leaderElection,
+                                     @Value("${news.backfill.url-hash.check-interval-ms:60000}") long checkIntervalMs) {
+        this.postsRepository = postsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.leaderElection = leaderElection;
+        this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkIntervalMs);
+    }
+
+    /**
+     * 백필이 끝났는지 여부 (url_hash가 없는 행 중 같은 지문을 가진 행이 없는 행이 남아 있지 않은지)
+     * 끝나기 전에는 유니크 제약으로 걸러지지 않는 기존 행이 있으므로 URL 비교를 함께 사용해야 한다.
+     * 백필은 리더 노드에서만 실행되므로 모든 노드가 DB에서 직접 확인하고, 결과는 check-interval-ms 동안 재사용한다.
+     */
+    public boolean isCompleted() {
+        if (completed) {
+            return true;
+        }
+        if (checked && System.nanoTime() - checkedAtNanos < checkIntervalNanos) {
+            return false;
+        }
+        return refreshCompleted();
+    }
+
+    private boolean refreshCompleted() {
+        try {
+            completed = !hasUnownedRows();
+        } catch (Exception e) {
+            log.warn("url_hash 백필 완료 여부 확인 실패: {}", e.getMessage());
+        }
+        checkedAtNanos = System.nanoTime();
+        checked = true;
+        return completed;
+    }
+
+    /**
+     * url_hash가 없는 행 중 같은 지문을 가진 행이 없는 행이 있는지
+     * 백필 전에는 첫 배치에서 바로 찾고, 백필 후에는 남은 중복 행만 훑으므로 오래 걸리지 않는다.
+     * URL로 지문을 만들 수 없는 행은 백필로 채울 수 없으므로 세지 않는다.
+     */
+    private boolean hasUnownedRows() {
+        long cursor = 0;
+        while (true) {
+            List<Posts> batch = postsRepository.findTop500ByUrlHashIsNullAndIdGreaterThanOrderByIdAsc(cursor);
+            if (batch.isEmpty()) {
+                return false;
+            }
+            Set<Long> hashes = new HashSet<>();
+            for (Posts post : batch) {
+                Long hash = UrlFingerprint.of(post.getUrl());
+                if (hash != null) {
+                    hashes.add(hash);
+                }
+            }
+            if (!hashes.isEmpty() && postsRepository.findExistingUrlHashes(hashes).size() < hashes.size()) {
+                return true;
+            }
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${news.backfill.url-hash.initial-delay-ms:30000}",
+            fixedDelayString = "${news.backfill.url-hash.delay-ms:600000}")
+    public void backfill() {
+        if (isCompleted() || !leaderElection.isLeader(LeaderElection.TASK_URL_HASH_BACKFILL)) {
+            return;
+        }
+
+        long cursor = 0;
+        int filled = 0;
+        int skipped = 0;
+        try {
+            while (true) {
+                final long from = cursor;
+                BatchResult result = transactionTemplate.execute(status -> backfillBatch(from));
+                if (result == null || result.lastId() == null) {
+                    break;
+                }
+                cursor = result.lastId();
+                filled += result.filled();
+                skipped += result.skipped();
+            }
+            // 과거에 중복 저장된 행은 url_hash 없이 남지만 같은 지문을 가진 행이 있으므로 완료로 본다
+            boolean done = refreshCompleted();
+            log.info("url_hash 백필 완료: 채움 {}, 중복으로 건너뜀 {}{}", filled, skipped,
+                    done ? "" : " (백필 중 확인하지 못한 행이 있어 다음 주기에 다시 실행)");
+        } catch (Exception e) {
+            log.error("url_hash 백필 중 오류 발생 (채움 {}): {}", filled, e.getMessage(), e);
+        }
+    }
+
+    private BatchResult backfillBatch(long afterId) {
+        List<Posts> batch = postsRepository.findTop500ByUrlHashIsNullAndIdGreaterThanOrderByIdAsc(afterId);
+        if (batch.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+
+        List<Long> hashes = new ArrayList<>();
+        for (Posts post : batch) {
+            Long hash = UrlFingerprint.of(post.getUrl());
+            if (hash != null) {
+                hashes.add(hash);
+            }
+        }
+        Set<Long> taken = hashes.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(postsRepository.findExistingUrlHashes(hashes));
+
+        int filled = 0;
+        int skipped = 0;
+        for (Posts post : batch) {
+            Long hash = UrlFingerprint.of(post.getUrl());
+            if (hash == null || !taken.add(hash)) {
+                skipped++;
+                continue;
+            }
+            post.setUrlHash(hash);
+            filled++;
+        }
+        postsRepository.saveAll(batch);
+
+        return new BatchResult(batch.get(batch.size() - 1).getId(), filled, skipped);
+    }
+
+    private record BatchResult(Long lastId, int filled, int skipped) {
+    }
+}
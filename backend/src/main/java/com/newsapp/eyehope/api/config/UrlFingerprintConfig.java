@@ -0,0 +1,61 @@
+package com.newsapp.eyehope.api.config;
+
+import com.newsapp.eyehope.api.util.UrlFingerprint;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * URL 지문 설정
+ * 전역으로 빼는 추적용 파라미터(utm_*, fbclid, gclid 등) 외에 호스트별로 뺄 파라미터를 지정한다.
+ */
+@Slf4j
+@Configuration
+public class UrlFingerprintConfig {
+
+    // "호스트:파라미터|파라미터" 를 쉼표로 구분 (예: "example.co.kr:from|ref,news.example.com:rss")
+    @Value("${news.url-fingerprint.host-tracking-params:}")
+    private String hostTrackingParams;
+
+    @PostConstruct
+    public void init() {
+        Map<String, Set<String>> params = getHostTrackingParams();
+        UrlFingerprint.setHostTrackingParams(params);
+        if (!params.isEmpty()) {
+            log.info("호스트별 URL 추적용 파라미터: {}", params);
+        }
+    }
+
+    public Map<String, Set<String>> getHostTrackingParams() {
+        Map<String, Set<String>> params = new HashMap<>();
+        for (String entry : hostTrackingParams.split(",")) {
+            String[] parts = entry.split(":", 2);
+            if (parts.length < 2) {
+                continue;
+            }
+            String host = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            Set<String> names = Arrays.stream(parts[1].split("\\|"))
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toSet());
+            if (!host.isEmpty() && !names.isEmpty()) {
+                params.merge(host, names, (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+            }
+        }
+        return params;
+    }
+}
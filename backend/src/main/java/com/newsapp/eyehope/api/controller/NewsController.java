@@ -2,10 +2,13 @@
 package com.newsapp.eyehope.api.controller;
 
 import com.newsapp.eyehope.api.dto.ApiResponse;
+import com.newsapp.eyehope.api.dto.CollectJobResponseDto;
 import com.newsapp.eyehope.api.dto.PostsResponseDto;
+import com.newsapp.eyehope.api.service.IngestionCoordinator;
 import com.newsapp.eyehope.api.service.NewsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +23,7 @@ import java.util.Map;
 public class NewsController {
 
     private final NewsService newsService;
+    private final IngestionCoordinator ingestionCoordinator;
 
     /**
      * 모든 뉴스 조회
@@ -40,14 +44,16 @@ public class NewsController {
      */
     @io.swagger.v3.oas.annotations.Operation(
             summary = "최신 뉴스 조회",
-            description = "최신 뉴스를 지정된 개수만큼 조회합니다."
+            description = "최신 뉴스를 지정된 개수만큼 조회합니다. collapse=true이면 같은 사건을 다룬 기사는 1건만 반환합니다."
     )
     @GetMapping("/latest")
     public ResponseEntity<ApiResponse<List<PostsResponseDto>>> getLatestNews(
             @io.swagger.v3.oas.annotations.Parameter(description = "조회할 뉴스 개수", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
-        log.info("최신 뉴스 조회 요청, limit={}", limit);
-        List<PostsResponseDto> news = newsService.getLatestNews(limit);
+            @RequestParam(defaultValue = "10") int limit,
+            @io.swagger.v3.oas.annotations.Parameter(description = "유사 기사 접기 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean collapse) {
+        log.info("최신 뉴스 조회 요청, limit={}, collapse={}", limit, collapse);
+        List<PostsResponseDto> news = newsService.getLatestNews(limit, collapse);
         return ResponseEntity.ok(ApiResponse.success("최신 뉴스 조회 성공", news));
     }
 
@@ -112,12 +118,43 @@ public class NewsController {
      */
     @io.swagger.v3.oas.annotations.Operation(
             summary = "뉴스 수집 트리거",
-            description = "뉴스 수집 프로세스를 수동으로 트리거합니다."
+            description = "뉴스 수집을 비동기로 시작하고 작업 ID를 반환합니다. 다른 수집이 진행 중이면 대기열에서 차례를 기다리고, 이미 진행 중이거나 대기 중인 전체 수집이 있으면 그 작업에 합쳐집니다."
     )
     @PostMapping("/collect")
-    public ResponseEntity<ApiResponse<String>> collectNews() {
+    public ResponseEntity<ApiResponse<CollectJobResponseDto>> collectNews() {
         log.info("뉴스 수집 요청");
-        String result = newsService.collectNews();
-        return ResponseEntity.ok(ApiResponse.success("뉴스 수집 결과", result));
+        CollectJobResponseDto job = ingestionCoordinator.collectAll();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("뉴스 수집 요청 접수", job));
+    }
+
+    /**
+     * 카테고리별 뉴스 수집 트리거
+     */
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "카테고리별 뉴스 수집 트리거",
+            description = "특정 카테고리의 뉴스 수집을 비동기로 시작하고 작업 ID를 반환합니다. 다른 수집이 진행 중이면 대기열에서 차례를 기다리고, 같은 카테고리나 전체 수집이 진행 중이거나 대기 중이면 그 작업에 합쳐집니다."
+    )
+    @PostMapping("/collect/{category}")
+    public ResponseEntity<ApiResponse<CollectJobResponseDto>> collectNewsByCategory(
+            @io.swagger.v3.oas.annotations.Parameter(description = "뉴스 카테고리", example = "경제")
+            @PathVariable String category) {
+        log.info("카테고리별 뉴스 수집 요청, category={}", category);
+        CollectJobResponseDto job = ingestionCoordinator.collectCategory(category);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("뉴스 수집 요청 접수", job));
+    }
+
+    /**
+     * 뉴스 수집 작업 상태 조회
+     */
+    @io.swagger.v3.oas.annotations.Operation(
+            summary = "뉴스 수집 작업 상태 조회",
+            description = "수집 작업의 상태와 단계별 처리 건수를 조회합니다."
+    )
+    @GetMapping("/collect/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<CollectJobResponseDto>> getCollectJob(
+            @io.swagger.v3.oas.annotations.Parameter(description = "수집 작업 ID")
+            @PathVariable String jobId) {
+        CollectJobResponseDto job = ingestionCoordinator.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success("뉴스 수집 작업 조회 성공", job));
     }
 }
@@ -0,0 +1,29 @@
+package com.newsapp.eyehope.api.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행 중인 백엔드 노드 목록
+ * 각 노드가 주기적으로 heartbeat_at을 갱신하며, 일정 시간 갱신이 없으면 죽은 노드로 보고 피드 분배에서 제외한다.
+ */
+@Entity
+@Table(name = "backend_nodes",
+        indexes = @Index(name = "idx_backend_nodes_heartbeat_at", columnList = "heartbeat_at"))
+@Getter
+@Setter
+public class BackendNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
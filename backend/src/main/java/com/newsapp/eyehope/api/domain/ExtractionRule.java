@@ -0,0 +1,44 @@
+package com.newsapp.eyehope.api.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 언론사 호스트별 본문 추출 규칙
+ * 해당 호스트(및 하위 도메인)의 기사는 공통 선택자 대신 이 규칙의 본문 선택자로 본문을 찾고 제거 선택자로 불필요한 요소를 지운다.
+ */
+@Entity
+@Table(name = "extraction_rules",
+        uniqueConstraints = @UniqueConstraint(name = "uk_extraction_rules_host", columnNames = "host"))
+@Getter
+@Setter
+public class ExtractionRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 기사 URL 호스트 (www. 제외, 예: hani.co.kr)
+    @Column(nullable = false, length = 255)
+    private String host;
+
+    @Column(name = "press_id")
+    private Long pressId;
+
+    // 본문 컨테이너 CSS 선택자
+    @Column(name = "body_selector", nullable = false, length = 1000)
+    private String bodySelector;
+
+    // 본문 안에서 제거할 요소의 CSS 선택자 (기자 정보, 공유 버튼 등). 비어 있으면 공통 제거 선택자 사용
+    @Column(name = "strip_selector", length = 1000)
+    private String stripSelector;
+
+    @Column(nullable = false)
+    private boolean enabled = true;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+    private LocalDateTime updatedAt;
+}
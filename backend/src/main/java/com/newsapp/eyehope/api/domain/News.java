@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "news")
 @Getter
@@ -24,6 +26,22 @@ public class News {
     @JoinColumn(name = "press_id", insertable = false, updatable = false)
     private Press press;
 
+    // 적응형 수집 주기 (초)
+    @Column(name = "poll_interval_seconds")
+    private Long pollIntervalSeconds;
+
+    // 다음 수집 예정 시각
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
+
+    // 마지막 수집 시각
+    @Column(name = "last_polled_at")
+    private LocalDateTime lastPolledAt;
+
+    // 관측된 신규 기사 도착률 (시간당 건수, EWMA)
+    @Column(name = "arrival_rate")
+    private Double arrivalRate;
+
     // 편의 메서드 - 언론사 이름 가져오기
     public String getPressName() {
         return press != null ? press.getName() : null;
@@ -9,7 +9,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_posts_url_hash", columnNames = "url_hash"),
+        indexes = @Index(name = "idx_posts_cluster_id", columnList = "cluster_id"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -30,6 +32,22 @@ public class Posts {
     @Column(columnDefinition = "text")
     private String url;
 
+    // 정규화된 URL의 64비트 지문 (중복 체크용, UrlFingerprint 참고)
+    @Column(name = "url_hash")
+    private Long urlHash;
+
+    // 제목 + 리드 문단의 MinHash 서명 (유사 기사 판별용, MinHash 참고)
+    @Column(name = "minhash", columnDefinition = "bytea")
+    private byte[] minhash;
+
+    // 같은 사건을 다룬 기사 묶음의 ID (대표 기사의 id). 대표 기사만 요약하고 나머지는 요약을 공유한다.
+    @Column(name = "cluster_id")
+    private Long clusterId;
+
+    // 멤버 기사가 공유받은 클러스터 요약 (자신의 content는 그대로 둔다)
+    @Column(name = "cluster_summary", columnDefinition = "text")
+    private String clusterSummary;
+
     // 이 필드는 제거하고 News 엔티티와의 관계로 대체
     // private String category;
 
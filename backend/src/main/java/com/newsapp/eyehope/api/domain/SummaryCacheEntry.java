@@ -0,0 +1,53 @@
+package com.newsapp.eyehope.api.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 요약 결과 캐시
+ * 키는 (프롬프트 버전, 모델, 정규화한 기사 본문)의 SHA-256이며, 같은 본문이 다시 들어오면 LLM을 호출하지 않고 이 요약을 사용한다.
+ */
+@Entity
+@Table(name = "summary_cache",
+        indexes = @Index(name = "idx_summary_cache_last_hit_at", columnList = "last_hit_at"))
+@Getter
+@Setter
+public class SummaryCacheEntry {
+
+    // SHA-256 16진수
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "prompt_version", nullable = false, length = 20)
+    private String promptVersion;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    // 원래 호출에 사용한 토큰 수 (적중 시 절약한 토큰으로 집계)
+    @Column(name = "prompt_tokens", nullable = false)
+    private int promptTokens;
+
+    @Column(name = "completion_tokens", nullable = false)
+    private int completionTokens;
+
+    // 원래 호출에 걸린 시간
+    @Column(name = "latency_ms", nullable = false)
+    private long latencyMs;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_hit_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime lastHitAt;
+}
@@ -0,0 +1,63 @@
+package com.newsapp.eyehope.api.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 요약 작업 큐
+ * 중복 제거로 새로 저장된 기사마다 한 건씩 쌓이며, 워커가 FOR UPDATE SKIP LOCKED로 가져가 처리한다.
+ * 처리 중 프로세스가 죽어도 임대(lease)가 만료되면 다른 워커가 다시 가져간다.
+ */
+@Entity
+@Table(name = "summary_tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summary_tasks_post_id", columnNames = "post_id"),
+        indexes = @Index(name = "idx_summary_tasks_status_available", columnList = "status, available_at"))
+@Getter
+@Setter
+public class SummaryTask {
+
+    public enum Status {
+        PENDING,    // 처리 대기
+        RUNNING,    // 워커가 임대 중
+        DONE,       // 요약 저장 완료
+        DEAD        // 재시도 횟수 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // 지금까지 가져간 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도 대기)
+    @Column(name = "available_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 임대 만료 시각. 지나도록 완료되지 않으면 다시 가져갈 수 있다.
+    @Column(name = "lease_until", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.newsapp.eyehope.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+public class CollectJobResponseDto {
+    private String jobId;
+    private String scope;           // ALL, DUE, CATEGORY:<카테고리>
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private boolean joined;         // 진행 중인 작업에 합쳐졌는지 여부
+    private int triggers;           // 이 작업에 합쳐진 요청 수
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+    private Integer feedCount;
+    private Integer newPosts;
+    private Integer summarized;
+    private Map<String, Map<String, Integer>> stages; // 단계별 처리/실패 건수
+    private String error;
+}
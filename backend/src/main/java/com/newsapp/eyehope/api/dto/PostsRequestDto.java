@@ -1,6 +1,7 @@
 package com.newsapp.eyehope.api.dto;
 
 import com.newsapp.eyehope.api.domain.Posts;
+import com.newsapp.eyehope.api.util.UrlFingerprint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,6 +30,7 @@ public class PostsRequestDto {
         entity.setContent(content);
         entity.setSource(source);
         entity.setUrl(url);
+        entity.setUrlHash(UrlFingerprint.of(url));
         entity.setCreatedAt(createdAt);
         entity.setCollectedAt(LocalDateTime.now()); // 현재 시간으로 collected_at 설정
 
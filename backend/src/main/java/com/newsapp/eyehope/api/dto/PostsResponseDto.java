@@ -15,6 +15,8 @@ public class PostsResponseDto {
     private String url;
     private String category; // 실제로는 newsId를 변환한 카테고리 문자열
     private LocalDateTime collectedAt;
+    private Long clusterId; // 같은 사건을 다룬 기사 묶음 ID (없으면 null)
+    private String clusterSummary; // 같은 클러스터에서 공유받은 요약 (대표 기사이거나 아직 없으면 null)
 
     public PostsResponseDto(Posts entity) {
         this.id = entity.getId();
@@ -25,5 +27,7 @@ public class PostsResponseDto {
         this.url = entity.getUrl();
         this.category = entity.getCategory();
         this.collectedAt = entity.getCollectedAt();
+        this.clusterId = entity.getClusterId();
+        this.clusterSummary = entity.getClusterSummary();
     }
 }
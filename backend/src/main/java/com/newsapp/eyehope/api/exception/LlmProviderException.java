@@ -0,0 +1,82 @@
+package com.newsapp.eyehope.api.exception;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * LLM 제공자 호출 실패
+ * 상태 코드와 Retry-After를 함께 전달해 라우터가 다른 제공자로 넘기거나 잠시 쉬게 할 수 있도록 한다.
+ */
+public class LlmProviderException extends RuntimeException {
+
+    private final String provider;
+    // HTTP 상태 코드 (연결 실패, 타임아웃, 응답 파싱 실패는 0)
+    private final int statusCode;
+    // 응답의 Retry-After (초, 없으면 null)
+    private final Long retryAfterSeconds;
+
+    public LlmProviderException(String provider, int statusCode, String message, Long retryAfterSeconds,
+                                Throwable cause) {
+        super(String.format("[%s] %s", provider, message), cause);
+        this.provider = provider;
+        this.statusCode = statusCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 비동기 호출 실패 원인을 LlmProviderException으로 변환 (CompletionException 등 감싼 예외는 벗겨냄)
+     */
+    public static LlmProviderException from(String provider, Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof LlmProviderException e) {
+            return e;
+        }
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new LlmProviderException(provider, 0, message, null, cause);
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public boolean isRateLimited() {
+        return statusCode == 429;
+    }
+
+    /**
+     * 모델 과부하 (503 또는 Gemini의 "model overloaded" 응답)
+     */
+    public boolean isOverloaded() {
+        String message = getMessage();
+        return statusCode == 503
+                || message != null && (message.contains("The model is overloaded") || message.contains("model overloaded"));
+    }
+
+    /**
+     * 요청이 제공자에 닿기 전에 실패했는지 (연결 거부, 연결 시간 초과, 호스트 조회 실패)
+     */
+    public boolean isNotDelivered() {
+        for (Throwable cause = getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException
+                    || cause instanceof UnknownHostException || cause instanceof UnresolvedAddressException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package com.newsapp.eyehope.api.exception;
+
+/**
+ * 호출 한도(LlmRateLimiter) 대기 시간 초과
+ * 요청을 제공자에 보내지 않았으므로 라우터는 다른 제공자로 넘기되 제공자 오류로 치지 않는다.
+ */
+public class LlmRateLimitTimeoutException extends LlmProviderException {
+
+    public LlmRateLimitTimeoutException(String provider, long maxWaitMs, Throwable cause) {
+        super(provider, 0, "호출 한도 대기 시간 초과 (" + maxWaitMs + "ms)", null, cause);
+    }
+}
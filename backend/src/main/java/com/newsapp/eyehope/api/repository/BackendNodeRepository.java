@@ -0,0 +1,42 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.BackendNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface BackendNodeRepository extends JpaRepository<BackendNode, String> {
+
+    /**
+     * 노드 heartbeat 기록 (없으면 추가)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO backend_nodes (node_id, started_at, heartbeat_at) " +
+            "VALUES (:nodeId, LOCALTIMESTAMP, LOCALTIMESTAMP) " +
+            "ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = LOCALTIMESTAMP", nativeQuery = true)
+    int heartbeat(@Param("nodeId") String nodeId);
+
+    /**
+     * 최근 ttlSeconds 안에 heartbeat를 보낸 노드
+     */
+    @Query(value = "SELECT node_id FROM backend_nodes " +
+            "WHERE heartbeat_at > LOCALTIMESTAMP - :ttlSeconds * INTERVAL '1 second' " +
+            "ORDER BY node_id", nativeQuery = true)
+    List<String> findLiveNodeIds(@Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 오래 heartbeat가 없는 노드 행 정리
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM backend_nodes " +
+            "WHERE heartbeat_at < LOCALTIMESTAMP - :olderThanSeconds * INTERVAL '1 second'", nativeQuery = true)
+    int deleteStale(@Param("olderThanSeconds") long olderThanSeconds);
+}
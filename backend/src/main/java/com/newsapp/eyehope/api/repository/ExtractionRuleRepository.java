@@ -0,0 +1,12 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.ExtractionRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ExtractionRuleRepository extends JpaRepository<ExtractionRule, Long> {
+    List<ExtractionRule> findAllByEnabledTrue();
+}
@@ -3,19 +3,49 @@ package com.newsapp.eyehope.api.repository;
 import com.newsapp.eyehope.api.domain.Posts;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostsRepository extends JpaRepository<Posts, Long> {
+public interface PostsRepository extends JpaRepository<Posts, Long>, PostsRepositoryCustom {
     Optional<Posts> findByUrl(String url); // 중복 체크용
     boolean existsByUrl(String url);
 
+    // url_hash 백필 전 기존 행 중복 체크용 - 지문이 있는 행은 유니크 제약으로 걸러지므로 지문이 없는 행만 비교
+    @Query("SELECT p.url FROM Posts p WHERE p.urlHash IS NULL AND p.url IN :urls")
+    List<String> findExistingUrls(@Param("urls") Collection<String> urls);
+
+    // 일괄 중복 체크용 - 주어진 URL 지문 중 이미 저장된 것만 반환
+    @Query("SELECT p.urlHash FROM Posts p WHERE p.urlHash IN :hashes")
+    List<Long> findExistingUrlHashes(@Param("hashes") Collection<Long> hashes);
+
+    // URL 지문 백필 / 완료 확인용 - 지문이 없는 행을 ID 순으로 조회
+    List<Posts> findTop500ByUrlHashIsNullAndIdGreaterThanOrderByIdAsc(long id);
+
+    // 요약 결과 반영
+    @Modifying
+    @Query("UPDATE Posts p SET p.content = :content WHERE p.id = :id")
+    int updateContent(@Param("id") Long id, @Param("content") String content);
+
+    // 요약한 기사의 요약을 같은 클러스터의 다른 기사에 공유 (대표 기사 대신 요약한 멤버 기사도 포함)
+    // 다른 기사의 content는 건드리지 않고 cluster_summary에만 저장
+    @Modifying
+    @Query(value = "UPDATE posts m SET cluster_summary = :content FROM posts p " +
+            "WHERE p.id = :postId AND m.cluster_id = p.cluster_id AND m.id <> p.id", nativeQuery = true)
+    int updateClusterContent(@Param("postId") Long postId, @Param("content") String content);
+
+    // 스토리 클러스터 인덱스 적재용 - [id, minhash, clusterId, collectedAt]
+    @Query("SELECT p.id, p.minhash, COALESCE(p.clusterId, p.id), p.collectedAt FROM Posts p " +
+            "WHERE p.minhash IS NOT NULL AND p.collectedAt >= :since ORDER BY p.collectedAt ASC")
+    List<Object[]> findRecentMinhashes(@Param("since") LocalDateTime since);
+
     // 카테고리별 뉴스 조회
     List<Posts> findByNewsId(Long newsId, Pageable pageable);
 
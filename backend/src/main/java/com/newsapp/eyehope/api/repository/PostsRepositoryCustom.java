@@ -0,0 +1,27 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.Posts;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostsRepositoryCustom {
+
+    /**
+     * url_hash 유니크 제약에 충돌하는 행은 건너뛰고 일괄 저장
+     * (INSERT ... ON CONFLICT (url_hash) DO NOTHING)
+     * @return 실제로 저장된 행 (id가 채워진 입력 엔티티)
+     */
+    List<Posts> insertIgnoringDuplicates(List<Posts> posts);
+
+    /**
+     * 저장된 기사의 minhash / cluster_id 일괄 반영
+     */
+    void updateClusters(List<Posts> posts);
+
+    /**
+     * 클러스터에 요약이 끝난 기사(대표 기사 또는 대신 요약한 멤버)가 있으면 그 요약을 멤버 기사의 cluster_summary에 복사
+     * @return 복사된 기사 수
+     */
+    int copyClusterSummaries(Collection<Long> memberIds);
+}
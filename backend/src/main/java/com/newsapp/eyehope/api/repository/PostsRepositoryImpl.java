@@ -0,0 +1,107 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.Posts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostsRepository의 네이티브 쿼리 구현
+ * PostgreSQL의 ON CONFLICT / RETURNING 구문을 사용하므로 JdbcTemplate으로 직접 실행한다.
+ */
+@RequiredArgsConstructor
+public class PostsRepositoryImpl implements PostsRepositoryCustom {
+
+    // 한 문장에 넣을 최대 행 수 (바인드 파라미터 수 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 200;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO posts (source, title, content, created_at, url, url_hash, news_id, collected_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT (url_hash) DO NOTHING RETURNING id, url_hash";
+
+    private static final String COPY_CLUSTER_SUMMARY_SQL =
+            "UPDATE posts m SET cluster_summary = s.content FROM posts s, summary_tasks t " +
+            "WHERE m.id = ? AND s.cluster_id = m.cluster_id AND s.id <> m.id " +
+            "AND t.post_id = s.id AND t.status = 'DONE'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Posts> insertIgnoringDuplicates(List<Posts> posts) {
+        List<Posts> inserted = new ArrayList<>();
+        for (int from = 0; from < posts.size(); from += INSERT_CHUNK_SIZE) {
+            inserted.addAll(insertChunk(posts.subList(from, Math.min(from + INSERT_CHUNK_SIZE, posts.size()))));
+        }
+        return inserted;
+    }
+
+    @Override
+    public void updateClusters(List<Posts> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE posts SET minhash = ?, cluster_id = ? WHERE id = ?",
+                posts.stream().map(post -> new Object[]{post.getMinhash(), post.getClusterId(), post.getId()}).toList());
+    }
+
+    @Override
+    public int copyClusterSummaries(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        int copied = 0;
+        for (int count : jdbcTemplate.batchUpdate(COPY_CLUSTER_SUMMARY_SQL,
+                memberIds.stream().map(id -> new Object[]{id}).toList())) {
+            copied += Math.max(count, 0);
+        }
+        return copied;
+    }
+
+    private List<Posts> insertChunk(List<Posts> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(INSERT_ROW);
+        }
+        sql.append(INSERT_SUFFIX);
+
+        PreparedStatementSetter setter = ps -> {
+            int index = 1;
+            for (Posts post : chunk) {
+                ps.setString(index++, post.getSource());
+                ps.setString(index++, post.getTitle());
+                ps.setString(index++, post.getContent());
+                ps.setObject(index++, post.getCreatedAt());
+                ps.setString(index++, post.getUrl());
+                ps.setObject(index++, post.getUrlHash());
+                ps.setObject(index++, post.getNewsId());
+                ps.setObject(index++, post.getCollectedAt());
+            }
+        };
+        RowMapper<long[]> idAndHash = (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("url_hash")};
+
+        Map<Long, Long> idByHash = new HashMap<>();
+        for (long[] row : jdbcTemplate.query(sql.toString(), setter, idAndHash)) {
+            idByHash.put(row[1], row[0]);
+        }
+
+        List<Posts> inserted = new ArrayList<>(idByHash.size());
+        for (Posts post : chunk) {
+            Long id = idByHash.remove(post.getUrlHash());
+            if (id != null) {
+                post.setId(id);
+                inserted.add(post);
+            }
+        }
+        return inserted;
+    }
+}
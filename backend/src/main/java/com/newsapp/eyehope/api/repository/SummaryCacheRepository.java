@@ -0,0 +1,45 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.SummaryCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SummaryCacheRepository extends JpaRepository<SummaryCacheEntry, String> {
+
+    /**
+     * 요약 저장 (다른 노드가 먼저 저장했으면 그대로 둠)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO summary_cache (cache_key, prompt_version, model, summary, prompt_tokens, " +
+            "completion_tokens, latency_ms, hit_count, created_at, last_hit_at) " +
+            "VALUES (:cacheKey, :promptVersion, :model, :summary, :promptTokens, :completionTokens, :latencyMs, 0, " +
+            "LOCALTIMESTAMP, LOCALTIMESTAMP) ON CONFLICT (cache_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("cacheKey") String cacheKey, @Param("promptVersion") String promptVersion,
+                       @Param("model") String model, @Param("summary") String summary,
+                       @Param("promptTokens") int promptTokens, @Param("completionTokens") int completionTokens,
+                       @Param("latencyMs") long latencyMs);
+
+    /**
+     * 적중 기록
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE summary_cache SET hit_count = hit_count + 1, last_hit_at = LOCALTIMESTAMP " +
+            "WHERE cache_key = :cacheKey", nativeQuery = true)
+    int recordHit(@Param("cacheKey") String cacheKey);
+
+    /**
+     * 오래 사용하지 않은 항목 정리
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM summary_cache " +
+            "WHERE last_hit_at < LOCALTIMESTAMP - :olderThanDays * INTERVAL '1 day'", nativeQuery = true)
+    int deleteUnusedSince(@Param("olderThanDays") long olderThanDays);
+}
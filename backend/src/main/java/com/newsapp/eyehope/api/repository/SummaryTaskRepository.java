@@ -0,0 +1,10 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.SummaryTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SummaryTaskRepository extends JpaRepository<SummaryTask, Long>, SummaryTaskRepositoryCustom {
+    long countByStatus(SummaryTask.Status status);
+}
@@ -0,0 +1,62 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.SummaryTask;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SummaryTaskRepositoryCustom {
+
+    /**
+     * 워커가 가져간 작업
+     * @param attempts 가져갈 때의 시도 번호. 다시 가져가면 늘어나므로 완료 / 실패 / 임대 연장 시 같은 임대인지 확인하는 데 쓴다.
+     */
+    record ClaimedTask(long id, long postId, int attempts) {
+    }
+
+    /**
+     * 새 기사의 요약 작업을 등록하면서 바로 nodeId가 임대한 상태로 만든다.
+     * 이미 작업이 있는 기사는 건너뛴다 (ON CONFLICT (post_id) DO NOTHING).
+     * 기사 저장과 같은 트랜잭션에서 호출해야 기사만 남고 작업이 사라지는 일이 없다.
+     */
+    List<ClaimedTask> enqueueClaimed(Collection<Long> postIds, String nodeId, long leaseSeconds);
+
+    /**
+     * 처리 가능한 작업(대기 중이면서 재시도 시각이 지났거나, 임대가 만료된 작업)을 최대 limit건 가져간다.
+     * FOR UPDATE SKIP LOCKED로 다른 워커/노드가 잡고 있는 행은 건너뛴다.
+     */
+    List<ClaimedTask> claim(String nodeId, int limit, long leaseSeconds, int maxAttempts);
+
+    /**
+     * 임대가 만료되었지만 재시도 횟수를 다 쓴 작업을 DEAD로 전환
+     * @return 전환된 작업의 기사 ID
+     */
+    List<Long> buryExpired(int maxAttempts);
+
+    /**
+     * 요약 저장과 같은 트랜잭션에서 완료 처리
+     * 임대가 만료되어 (같은 노드든 다른 노드든) 다시 가져간 작업은 건너뛴다 (시도 번호 확인).
+     * @return 완료 처리된 작업 수
+     */
+    int markDone(Collection<ClaimedTask> tasks);
+
+    /**
+     * 처리 중인 작업의 임대 연장
+     * @return 이미 다시 가져갔거나 끝나서 연장하지 못한 작업
+     */
+    List<ClaimedTask> renewLeases(List<ClaimedTask> tasks, long leaseSeconds);
+
+    /**
+     * 주어진 기사가 속한 클러스터에 대기/진행 중이거나 완료된 요약 작업이 하나도 없으면
+     * 작업이 없는 가장 오래된 멤버 기사에 대기 작업을 등록한다 (클러스터당 한 건).
+     * 대표 기사의 작업이 DEAD가 되어도 클러스터가 요약을 받지 못하는 일이 없도록 한다.
+     * @return 등록된 작업 수
+     */
+    int enqueueClusterSuccessors(Collection<Long> postIds);
+
+    /**
+     * 실패 처리. 재시도 횟수가 남아 있으면 대기 상태로 되돌리고, 아니면 DEAD로 전환한다.
+     * @return 변경된 상태 (이미 다른 워커가 가져간 경우 null)
+     */
+    SummaryTask.Status markFailed(ClaimedTask task, String error, int maxAttempts, long backoffSeconds);
+}
@@ -0,0 +1,167 @@
+package com.newsapp.eyehope.api.repository;
+
+import com.newsapp.eyehope.api.domain.SummaryTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SummaryTaskRepository의 네이티브 쿼리 구현
+ * PostgreSQL의 FOR UPDATE SKIP LOCKED / ON CONFLICT / RETURNING 구문을 사용한다.
+ */
+@RequiredArgsConstructor
+public class SummaryTaskRepositoryImpl implements SummaryTaskRepositoryCustom {
+
+    // 한 문장에 넣을 최대 행 수 (바인드 파라미터 수 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String ENQUEUE_PREFIX =
+            "INSERT INTO summary_tasks (post_id, status, attempts, available_at, lease_until, locked_by, created_at, updated_at) VALUES ";
+    private static final String ENQUEUE_ROW =
+            "(?, 'RUNNING', 1, LOCALTIMESTAMP, LOCALTIMESTAMP + ? * INTERVAL '1 second', ?, LOCALTIMESTAMP, LOCALTIMESTAMP)";
+    private static final String ENQUEUE_SUFFIX =
+            " ON CONFLICT (post_id) DO NOTHING RETURNING id, post_id, attempts";
+
+    private static final String CLAIM_SQL =
+            "UPDATE summary_tasks SET status = 'RUNNING', attempts = attempts + 1, locked_by = ?, " +
+            "lease_until = LOCALTIMESTAMP + ? * INTERVAL '1 second', updated_at = LOCALTIMESTAMP " +
+            "WHERE id IN (" +
+            "SELECT id FROM summary_tasks " +
+            "WHERE ((status = 'PENDING' AND available_at <= LOCALTIMESTAMP) " +
+            "OR (status = 'RUNNING' AND lease_until < LOCALTIMESTAMP)) " +
+            "AND attempts < ? " +
+            "ORDER BY available_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, post_id, attempts";
+
+    private static final String BURY_SQL =
+            "UPDATE summary_tasks SET status = 'DEAD', locked_by = NULL, lease_until = NULL, " +
+            "last_error = COALESCE(last_error, 'lease expired'), updated_at = LOCALTIMESTAMP " +
+            "WHERE status = 'RUNNING' AND lease_until < LOCALTIMESTAMP AND attempts >= ? " +
+            "RETURNING post_id";
+
+    // 임대가 만료되어 다시 가져간 작업(시도 번호가 바뀐 작업)은 완료 처리하지 않는다
+    private static final String DONE_SQL =
+            "UPDATE summary_tasks SET status = 'DONE', locked_by = NULL, lease_until = NULL, " +
+            "updated_at = LOCALTIMESTAMP WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    private static final String RENEW_SQL =
+            "UPDATE summary_tasks SET lease_until = LOCALTIMESTAMP + ? * INTERVAL '1 second', " +
+            "updated_at = LOCALTIMESTAMP WHERE id = ? AND status = 'RUNNING' AND attempts = ?";
+
+    // 주어진 기사의 클러스터에 진행 중이거나 끝난 작업이 없으면, 작업이 없는 가장 오래된 기사에 대기 작업 등록
+    private static final String ENQUEUE_SUCCESSOR_SQL =
+            "INSERT INTO summary_tasks (post_id, status, attempts, available_at, created_at, updated_at) " +
+            "SELECT DISTINCT ON (m.cluster_id) m.id, 'PENDING', 0, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP " +
+            "FROM posts p JOIN posts m ON m.cluster_id = p.cluster_id " +
+            "WHERE p.id IN (%s) " +
+            "AND NOT EXISTS (SELECT 1 FROM summary_tasks t WHERE t.post_id = m.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM posts s JOIN summary_tasks t ON t.post_id = s.id " +
+            "WHERE s.cluster_id = p.cluster_id AND t.status <> 'DEAD') " +
+            "ORDER BY m.cluster_id, m.id " +
+            "ON CONFLICT (post_id) DO NOTHING";
+
+    private static final String FAIL_SQL =
+            "UPDATE summary_tasks SET " +
+            "status = CASE WHEN attempts >= ? THEN 'DEAD' ELSE 'PENDING' END, " +
+            "available_at = LOCALTIMESTAMP + attempts * ? * INTERVAL '1 second', " +
+            "locked_by = NULL, lease_until = NULL, last_error = ?, updated_at = LOCALTIMESTAMP " +
+            "WHERE id = ? AND status = 'RUNNING' AND attempts = ? " +
+            "RETURNING status";
+
+    private static final RowMapper<ClaimedTask> CLAIMED_TASK = (rs, rowNum) ->
+            new ClaimedTask(rs.getLong("id"), rs.getLong("post_id"), rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ClaimedTask> enqueueClaimed(Collection<Long> postIds, String nodeId, long leaseSeconds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        List<ClaimedTask> claimed = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + INSERT_CHUNK_SIZE, ids.size()));
+
+            StringBuilder sql = new StringBuilder(ENQUEUE_PREFIX);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(ENQUEUE_ROW);
+            }
+            sql.append(ENQUEUE_SUFFIX);
+
+            claimed.addAll(jdbcTemplate.query(sql.toString(), ps -> {
+                int index = 1;
+                for (Long postId : chunk) {
+                    ps.setLong(index++, postId);
+                    ps.setLong(index++, leaseSeconds);
+                    ps.setString(index++, nodeId);
+                }
+            }, CLAIMED_TASK));
+        }
+        return claimed;
+    }
+
+    @Override
+    public List<ClaimedTask> claim(String nodeId, int limit, long leaseSeconds, int maxAttempts) {
+        return jdbcTemplate.query(CLAIM_SQL, CLAIMED_TASK, nodeId, leaseSeconds, maxAttempts, limit);
+    }
+
+    @Override
+    public List<Long> buryExpired(int maxAttempts) {
+        return jdbcTemplate.queryForList(BURY_SQL, Long.class, maxAttempts);
+    }
+
+    @Override
+    public int markDone(Collection<ClaimedTask> tasks) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        int done = 0;
+        for (int count : jdbcTemplate.batchUpdate(DONE_SQL,
+                tasks.stream().map(task -> new Object[]{task.id(), task.attempts()}).toList())) {
+            done += Math.max(count, 0);
+        }
+        return done;
+    }
+
+    @Override
+    public List<ClaimedTask> renewLeases(List<ClaimedTask> tasks, long leaseSeconds) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(RENEW_SQL,
+                tasks.stream().map(task -> new Object[]{leaseSeconds, task.id(), task.attempts()}).toList());
+        List<ClaimedTask> lost = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                lost.add(tasks.get(i));
+            }
+        }
+        return lost;
+    }
+
+    @Override
+    public int enqueueClusterSuccessors(Collection<Long> postIds) {
+        List<Long> ids = new ArrayList<>(postIds);
+        int enqueued = 0;
+        for (int from = 0; from < ids.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + INSERT_CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            enqueued += jdbcTemplate.update(String.format(ENQUEUE_SUCCESSOR_SQL, placeholders), chunk.toArray());
+        }
+        return enqueued;
+    }
+
+    @Override
+    public SummaryTask.Status markFailed(ClaimedTask task, String error, int maxAttempts, long backoffSeconds) {
+        String message = error == null ? null
+                : error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        List<String> statuses = jdbcTemplate.queryForList(FAIL_SQL, String.class,
+                maxAttempts, backoffSeconds, message, task.id(), task.attempts());
+        return statuses.isEmpty() ? null : SummaryTask.Status.valueOf(statuses.get(0));
+    }
+}
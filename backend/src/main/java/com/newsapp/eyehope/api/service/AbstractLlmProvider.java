@@ -0,0 +1,120 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+import com.newsapp.eyehope.api.util.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * LLM 제공자 공통 호출 처리
+ * LlmRateLimiter의 허가를 받은 뒤 공유 LlmHttpClient로 비동기 요청을 보내고 응답 파싱 실패를 LlmProviderException으로 변환하며,
+ * OpenAI 호환(chat completions) 요청/응답 형식을 제공한다.
+ * 제공자는 요청 URL, 요청 본문, 응답 파싱만 구현한다.
+ */
+@Slf4j
+public abstract class AbstractLlmProvider implements SummarizationProvider {
+
+    private final LlmHttpClient llmHttpClient;
+    private final LlmRateLimiter llmRateLimiter;
+
+    protected AbstractLlmProvider(LlmHttpClient llmHttpClient, LlmRateLimiter llmRateLimiter) {
+        this.llmHttpClient = llmHttpClient;
+        this.llmRateLimiter = llmRateLimiter;
+    }
+
+    protected abstract String endpoint();
+
+    protected abstract JSONObject buildRequestBody(String prompt);
+
+    /**
+     * 응답 JSON에서 생성 결과 추출
+     * @throws JSONException 예상한 형식이 아닌 경우
+     */
+    protected abstract LlmCompletion parseResponse(JSONObject response);
+
+    protected void addHeaders(Map<String, String> headers) {
+    }
+
+    protected LlmHttpClient getLlmHttpClient() {
+        return llmHttpClient;
+    }
+
+    @Override
+    public CompletableFuture<LlmCompletion> completeAsync(String prompt) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        addHeaders(headers);
+        String body = buildRequestBody(prompt).toString();
+        return llmRateLimiter.acquire(getName(), TokenEstimator.estimate(prompt)).thenCompose(permit -> {
+            CompletableFuture<LlmCompletion> call;
+            try {
+                call = llmHttpClient.postJson(getName(), endpoint(), headers, body).thenApply(this::parse);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            // 실제 토큰 사용량과 429 / 과부하 여부로 한도 정산
+            return call.whenComplete(permit::release);
+        });
+    }
+
+    private LlmCompletion parse(String response) {
+        try {
+            return parseResponse(new JSONObject(response));
+        } catch (JSONException e) {
+            throw new LlmProviderException(getName(), 0, "응답 파싱 실패: " + e.getMessage(), null, e);
+        }
+    }
+
+    /**
+     * 텍스트만 필요한 호출부용. 실패하면 "Error"로 시작하는 메시지를 반환한다.
+     */
+    public String generateContent(String prompt) {
+        try {
+            return complete(prompt).text();
+        } catch (LlmProviderException e) {
+            log.error("LLM 호출 중 오류 발생: {}", e.getMessage(), e);
+            return "Error generating content: " + e.getMessage();
+        }
+    }
+
+    /**
+     * OpenAI 호환 API 요청 본문
+     * @param model 모델 (서버가 하나의 모델만 제공하면 null)
+     */
+    protected static JSONObject chatCompletionRequest(String model, String prompt) {
+        JSONArray messages = new JSONArray();
+        JSONObject userMessage = new JSONObject();
+        userMessage.put("role", "user");
+        userMessage.put("content", prompt);
+        messages.put(userMessage);
+
+        JSONObject requestBody = new JSONObject();
+        if (model != null) {
+            requestBody.put("model", model);
+        }
+        requestBody.put("messages", messages);
+        requestBody.put("temperature", 0.7);
+        return requestBody;
+    }
+
+    /**
+     * OpenAI 호환 API 응답에서 텍스트와 토큰 사용량 추출
+     */
+    protected LlmCompletion parseChatCompletion(JSONObject response) {
+        JSONArray choices = response.getJSONArray("choices");
+        if (choices.isEmpty()) {
+            throw new JSONException("choices가 비어 있습니다");
+        }
+        String text = choices.getJSONObject(0).getJSONObject("message").getString("content");
+
+        JSONObject usage = response.optJSONObject("usage");
+        int promptTokens = usage != null ? usage.optInt("prompt_tokens") : 0;
+        int completionTokens = usage != null ? usage.optInt("completion_tokens") : 0;
+        return new LlmCompletion(getName(), getModel(), text, promptTokens, completionTokens);
+    }
+}
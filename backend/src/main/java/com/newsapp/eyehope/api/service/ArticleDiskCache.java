@@ -0,0 +1,370 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.ArticleCacheConfig;
+import com.newsapp.eyehope.api.util.UrlFingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기사 페이지(HTML)와 추출 본문의 로컬 디스크 캐시
+ * 정규화 URL 지문(UrlFingerprint)을 키로 gzip 파일에 저장하며, HTML은 UTF-8로 바꿔 저장하므로 읽을 때 charset을 따로 알 필요가 없다.
+ * 요약 재시도나 프롬프트 변경으로 같은 기사를 다시 처리할 때 언론사에 다시 요청하지 않도록 한다.
+ * 저장 후 TTL이 지나면 사용하지 않고, 전체 크기가 상한을 넘으면 가장 오래 사용하지 않은 파일부터 지운다.
+ * 최근 사용 시각은 메모리에만 두므로 재시작 직후에는 파일 수정 시각 순으로 지운다.
+ */
+@Slf4j
+@Component
+public class ArticleDiskCache {
+
+    private static final String HTML_SUFFIX = ".html.gz";
+    private static final String TEXT_SUFFIX = ".txt.gz";
+    // 상한을 넘으면 이 비율까지 줄임 (매 저장마다 지우지 않도록 여유를 둠)
+    private static final double EVICT_TARGET_RATIO = 0.9;
+
+    private static class FileMeta {
+        private final long size;
+        private final long createdAtMillis;
+        private volatile long lastAccessMillis;
+
+        private FileMeta(long size, long createdAtMillis) {
+            this.size = size;
+            this.createdAtMillis = createdAtMillis;
+            this.lastAccessMillis = createdAtMillis;
+        }
+    }
+
+    private final ArticleCacheConfig config;
+    private final MeterRegistry registry;
+    private final Map<Path, FileMeta> index = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+
+    private Path root;
+
+    public ArticleDiskCache(ArticleCacheConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+
+        Gauge.builder("article.cache.size", totalBytes, AtomicLong::get)
+                .description("기사 디스크 캐시 사용량")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("article.cache.entries", index, Map::size)
+                .description("기사 디스크 캐시 파일 수")
+                .register(registry);
+        Gauge.builder("article.cache.hit.ratio", this, ArticleDiskCache::hitRatio)
+                .description("기사 디스크 캐시 적중률 (기동 후 누적)")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 디렉터리를 만들고 기존 파일을 색인
+     */
+    @PostConstruct
+    public void init() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        root = Paths.get(config.getDir());
+        try {
+            Files.createDirectories(root);
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(Files::isRegularFile).forEach(path -> {
+                    if (path.getFileName().toString().endsWith(".part")) {
+                        // 저장 도중 종료되어 남은 임시 파일
+                        remove(path);
+                        return;
+                    }
+                    if (!isCacheFile(path)) {
+                        return;
+                    }
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        track(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+                    } catch (IOException e) {
+                        log.debug("캐시 파일 확인 실패: {}", path);
+                    }
+                });
+            }
+            log.info("기사 디스크 캐시: {} ({}개, {}바이트)", root, index.size(), totalBytes.get());
+            evictIfNeeded();
+        } catch (IOException e) {
+            log.warn("기사 디스크 캐시 디렉터리를 사용할 수 없어 캐시 없이 동작: {} ({})", root, e.getMessage());
+            root = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return root != null;
+    }
+
+    /**
+     * 추출 본문 조회
+     * @param version 본문을 추출한 규칙 버전. 저장할 때와 다르면(규칙이 바뀌었으면) 없는 것으로 본다.
+     * @return 없거나 만료되었거나 다른 규칙으로 추출했으면 null
+     */
+    public String getText(String url, String version) {
+        Path path = pathOf(url, TEXT_SUFFIX);
+        if (path == null) {
+            return null;
+        }
+        try (InputStream in = open(path)) {
+            if (in == null) {
+                return null;
+            }
+            // 첫 줄은 규칙 버전
+            String stored = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            int newline = stored.indexOf('\n');
+            if (newline < 0 || !stored.substring(0, newline).equals(version)) {
+                return null;
+            }
+            return stored.substring(newline + 1);
+        } catch (IOException e) {
+            log.debug("캐시 본문 읽기 실패: {} ({})", path, e.getMessage());
+            remove(path);
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 HTML(UTF-8)을 스트림으로 열기. 호출한 쪽에서 닫아야 한다.
+     * @return 없거나 만료되었으면 null
+     */
+    public InputStream openHtml(String url) {
+        Path path = pathOf(url, HTML_SUFFIX);
+        if (path == null) {
+            return null;
+        }
+        try {
+            return open(path);
+        } catch (IOException e) {
+            log.debug("캐시 HTML 열기 실패: {} ({})", path, e.getMessage());
+            remove(path);
+            return null;
+        }
+    }
+
+    /**
+     * 추출 본문 저장
+     * @param version 본문을 추출한 규칙 버전
+     */
+    public void putText(String url, String version, String text) {
+        write(pathOf(url, TEXT_SUFFIX), (version + "\n" + text).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 받은 HTML을 UTF-8로 바꿔 저장
+     * @param charset 응답 charset (모르면 null, 앞부분의 meta 태그로 판단)
+     */
+    public void putHtml(String url, byte[] raw, String charset) {
+        Path path = pathOf(url, HTML_SUFFIX);
+        if (path == null || raw.length == 0) {
+            return;
+        }
+        Charset source = Charset.forName(charset != null ? charset : ArticleHttpClient.detectCharset(raw));
+        byte[] utf8 = StandardCharsets.UTF_8.equals(source)
+                ? raw
+                : new String(raw, source).getBytes(StandardCharsets.UTF_8);
+        write(path, utf8);
+    }
+
+    /**
+     * 조회 결과 기록 (text: 본문 적중, html: 페이지만 적중, miss: 네트워크 요청)
+     */
+    public void recordLookup(String result) {
+        lookups.incrementAndGet();
+        if (!"miss".equals(result)) {
+            hits.incrementAndGet();
+        }
+        Counter.builder("article.cache.requests")
+                .description("기사 디스크 캐시 조회 결과")
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 읽는 동안 받은 바이트를 그대로 복사해 두는 스트림 (캐시 저장용)
+     */
+    public static InputStream tee(InputStream in, OutputStream copy) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    copy.write(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    copy.write(buffer, offset, read);
+                }
+                return read;
+            }
+        };
+    }
+
+    /**
+     * 만료된 파일 정리
+     */
+    @Scheduled(initialDelayString = "${news.article-cache.cleanup-ms:600000}",
+            fixedDelayString = "${news.article-cache.cleanup-ms:600000}")
+    public void cleanup() {
+        if (!isEnabled()) {
+            return;
+        }
+        int removed = 0;
+        for (Map.Entry<Path, FileMeta> entry : index.entrySet()) {
+            if (isExpired(entry.getValue())) {
+                remove(entry.getKey());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("만료된 기사 캐시 {}개 삭제", removed);
+        }
+    }
+
+    private InputStream open(Path path) throws IOException {
+        FileMeta meta = index.get(path);
+        if (meta == null) {
+            return null;
+        }
+        if (isExpired(meta)) {
+            remove(path);
+            return null;
+        }
+        meta.lastAccessMillis = System.currentTimeMillis();
+        try {
+            return new GZIPInputStream(Files.newInputStream(path));
+        } catch (NoSuchFileException e) {
+            // 다른 스레드가 방금 지운 경우
+            untrack(path);
+            return null;
+        }
+    }
+
+    private void write(Path path, byte[] content) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "tmp-", ".part");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(content);
+            }
+            // 읽는 쪽이 쓰다 만 파일을 보지 않도록 완성된 파일로 교체
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            untrack(path);
+            track(path, Files.size(path), System.currentTimeMillis());
+            evictIfNeeded();
+        } catch (IOException e) {
+            log.debug("기사 캐시 저장 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 상한을 넘으면 가장 오래 사용하지 않은 파일부터 삭제
+     */
+    private synchronized void evictIfNeeded() {
+        if (totalBytes.get() <= config.getMaxSizeBytes()) {
+            return;
+        }
+        long target = (long) (config.getMaxSizeBytes() * EVICT_TARGET_RATIO);
+        List<Map.Entry<Path, FileMeta>> candidates = index.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis))
+                .toList();
+        int removed = 0;
+        for (Map.Entry<Path, FileMeta> entry : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            remove(entry.getKey());
+            removed++;
+        }
+        log.debug("기사 캐시 용량 초과로 {}개 삭제 (현재 {}바이트)", removed, totalBytes.get());
+    }
+
+    private void remove(Path path) {
+        untrack(path);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("기사 캐시 삭제 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    private void track(Path path, long size, long createdAtMillis) {
+        FileMeta previous = index.put(path, new FileMeta(size, createdAtMillis));
+        totalBytes.addAndGet(size - (previous != null ? previous.size : 0));
+    }
+
+    private void untrack(Path path) {
+        FileMeta meta = index.remove(path);
+        if (meta != null) {
+            totalBytes.addAndGet(-meta.size);
+        }
+    }
+
+    private boolean isExpired(FileMeta meta) {
+        return System.currentTimeMillis() - meta.createdAtMillis > TimeUnit.HOURS.toMillis(config.getTtlHours());
+    }
+
+    /**
+     * 지문 앞 두 글자로 하위 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않게 한다
+     */
+    private Path pathOf(String url, String suffix) {
+        if (root == null) {
+            return null;
+        }
+        Long fingerprint = UrlFingerprint.of(url);
+        if (fingerprint == null) {
+            return null;
+        }
+        String key = String.format("%016x", fingerprint);
+        return root.resolve(key.substring(0, 2)).resolve(key + suffix);
+    }
+
+    private boolean isCacheFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(HTML_SUFFIX) || name.endsWith(TEXT_SUFFIX);
+    }
+
+    private double hitRatio() {
+        long total = lookups.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+}
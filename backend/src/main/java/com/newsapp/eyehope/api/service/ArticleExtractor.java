@@ -0,0 +1,279 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.ArticleFetchConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 뉴스 기사 페이지에서 본문 텍스트 추출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleExtractor {
+
+    public static final String NOT_FOUND_MESSAGE = "뉴스 본문을 추출할 수 없습니다.";
+    public static final String ERROR_PREFIX = "뉴스 본문 추출 중";
+
+    // LLM에 넘길 본문 최대 길이
+    private static final int MAX_CONTENT_LENGTH = 15000;
+
+    private final ArticleHttpClient articleHttpClient;
+    private final ArticleFetchConfig articleFetchConfig;
+    private final ArticleDiskCache articleDiskCache;
+    private final ExtractionRuleRegistry extractionRuleRegistry;
+    private final MeterRegistry registry;
+
+    /**
+     * 뉴스 URL에서 본문 내용을 추출
+     * @param url 뉴스 기사 URL
+     * @return 추출된 본문 내용
+     */
+    public String extract(String url) {
+        try {
+            log.info("뉴스 URL에서 본문 추출 시작: {}", url);
+
+            ExtractionRuleRegistry.CompiledRule rule = extractionRuleRegistry.ruleFor(url);
+
+            // 이전에 받은 기사면 디스크 캐시 사용
+            String cached = extractFromCache(url, rule);
+            if (cached != null) {
+                log.info("뉴스 본문 캐시 사용: {} 글자", cached.length());
+                return cached;
+            }
+
+            // URL에서 HTML 문서 가져오기 (공유 클라이언트로 커넥션 재사용)
+            String content = articleFetchConfig.isStreaming() ? extractStreaming(url, rule) : extractFromDocument(url, rule);
+
+            if (content == null) {
+                ruleCounter("not_found").increment();
+                log.warn("뉴스 본문을 찾을 수 없음: {}", url);
+                return NOT_FOUND_MESSAGE;
+            }
+
+            // 내용이 너무 길면 적절히 자르기 (Gemini API 제한 고려)
+            if (content.length() > MAX_CONTENT_LENGTH) {
+                content = content.substring(0, MAX_CONTENT_LENGTH);
+            }
+
+            if (articleDiskCache.isEnabled()) {
+                articleDiskCache.putText(url, rule.version(), content);
+            }
+            log.info("뉴스 본문 추출 성공: {} 글자", content.length());
+            return content;
+        } catch (IOException e) {
+            log.error("뉴스 URL에서 본문 추출 중 오류 발생: {}", e.getMessage(), e);
+            return "뉴스 본문 추출 중 오류 발생: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "뉴스 본문 추출 중 중단됨: " + url;
+        } catch (Exception e) {
+            log.error("뉴스 본문 추출 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
+            return "뉴스 본문 추출 중 예상치 못한 오류 발생: " + e.getMessage();
+        }
+    }
+
+    /**
+     * 디스크 캐시의 본문, 없으면 저장된 페이지에서 다시 추출
+     * 본문은 추출한 규칙 버전과 함께 저장되므로 규칙이 다시 불러와져 바뀌면 저장된 페이지에서 새 규칙으로 다시 추출한다.
+     * @return 캐시에 없거나 저장된 페이지에서 본문을 찾지 못하면 null
+     */
+    private String extractFromCache(String url, ExtractionRuleRegistry.CompiledRule rule) throws IOException {
+        if (!articleDiskCache.isEnabled()) {
+            return null;
+        }
+        String text = articleDiskCache.getText(url, rule.version());
+        if (text != null) {
+            articleDiskCache.recordLookup("text");
+            return text;
+        }
+        try (InputStream html = articleDiskCache.openHtml(url)) {
+            if (html != null) {
+                // 추출 규칙이 바뀐 경우 등 본문만 없으면 저장된 페이지에서 다시 추출
+                String content = selectContent(Jsoup.parse(html, StandardCharsets.UTF_8.name(), url), rule, url);
+                if (content != null) {
+                    articleDiskCache.recordLookup("html");
+                    content = content.length() > MAX_CONTENT_LENGTH ? content.substring(0, MAX_CONTENT_LENGTH) : content;
+                    articleDiskCache.putText(url, rule.version(), content);
+                    return content;
+                }
+            }
+        }
+        articleDiskCache.recordLookup("miss");
+        return null;
+    }
+
+    /**
+     * 페이지 전체를 받아 문서로 파싱한 뒤 본문 선택
+     */
+    private String extractFromDocument(String url, ExtractionRuleRegistry.CompiledRule rule)
+            throws IOException, InterruptedException {
+        return articleHttpClient.fetch(url, articleFetchConfig.getMaxBodyBytes(), (body, charset, finalUrl) -> {
+            ByteArrayOutputStream raw = articleDiskCache.isEnabled() ? new ByteArrayOutputStream() : null;
+            Document doc = Jsoup.parse(raw != null ? ArticleDiskCache.tee(body, raw) : body, charset, finalUrl);
+            body.markUsed();
+            String content = selectContent(doc, rule, url);
+            cacheHtml(url, raw, charset, content, !body.isTruncated());
+            return content;
+        });
+    }
+
+    /**
+     * 페이지를 받는 대로 파싱하다가 본문 컨테이너가 닫히면 나머지는 받지 않고 중단
+     * 규칙 선택자는 정확한 본문 위치이므로 첫 요소에서, 공통 선택자는 최대 길이만큼 글자를 모으면 멈춘다.
+     * 선택 결과는 전체 문서 파싱(selectContent)과 같다. 중간에 멈춘 페이지는 디스크 캐시에 저장하지 않는다.
+     */
+    private String extractStreaming(String url, ExtractionRuleRegistry.CompiledRule rule)
+            throws IOException, InterruptedException {
+        return articleHttpClient.fetch(url, articleFetchConfig.getStreamMaxBytes(), (body, charset, finalUrl) -> {
+            ByteArrayOutputStream raw = articleDiskCache.isEnabled() ? new ByteArrayOutputStream() : null;
+            InputStream in = raw != null ? ArticleDiskCache.tee(body, raw) : body;
+            try (StreamParser parser = new StreamParser(Parser.htmlParser())
+                    .parse(ArticleHttpClient.openReader(in, charset), finalUrl)) {
+                // Elements.remove*는 요소를 문서에서도 떼어내므로 찾은 요소는 일반 리스트로 관리
+                List<Element> found = new ArrayList<>();
+                boolean stoppedEarly = false;
+                Element element;
+                while ((element = parser.selectNext(rule.body())) != null) {
+                    Element container = element;
+                    // 스트림 끝에서 같은 요소가 다시 선택되거나 이미 찾은 요소 안의 요소면 건너뜀 (중복 텍스트 방지)
+                    if (found.stream().anyMatch(previous -> previous == container || isDescendant(container, previous))) {
+                        continue;
+                    }
+                    // 바깥 컨테이너가 닫히면 앞서 찾은 안쪽 요소를 대신한다
+                    found.removeIf(previous -> isDescendant(previous, container));
+                    strip(container, rule);
+                    found.add(container);
+                    body.markUsed();
+                    if (!rule.isGeneric() || textOf(found).length() >= MAX_CONTENT_LENGTH) {
+                        stoppedEarly = true;
+                        break;
+                    }
+                }
+
+                String content;
+                if (!found.isEmpty()) {
+                    ruleCounter(rule.isGeneric() ? "generic" : "rule").increment();
+                    content = textOf(found);
+                } else {
+                    // 끝(또는 크기 제한)까지 읽은 문서에서 공통 선택자로 다시 찾음
+                    content = rule.isGeneric() ? null : selectContent(parser.document(), rule, url);
+                }
+                cacheHtml(url, raw, charset, content, !stoppedEarly && !body.isTruncated());
+                return content;
+            }
+        });
+    }
+
+    /**
+     * 본문을 찾은 페이지만 디스크 캐시에 저장
+     * 앞부분만 받은 페이지는 규칙이 바뀌었을 때 다시 추출하는 데 쓸 수 없으므로 저장하지 않는다.
+     * @param complete 페이지를 끝까지 받았는지 여부
+     */
+    private void cacheHtml(String url, ByteArrayOutputStream raw, String charset, String content, boolean complete) {
+        if (raw != null && content != null && complete) {
+            articleDiskCache.putHtml(url, raw.toByteArray(), charset);
+        }
+    }
+
+    /**
+     * 파싱된 문서에서 규칙 선택자로 본문을 찾고, 없으면 공통 선택자 사용
+     * 규칙 선택자는 첫 요소만, 공통 선택자는 서로 겹치지 않는 바깥 요소를 모두 사용한다 (스트리밍 파싱과 같은 결과).
+     * @return 본문을 찾지 못하면 null
+     */
+    private String selectContent(Element root, ExtractionRuleRegistry.CompiledRule rule, String url) {
+        Elements contentElements = root.select(rule.body());
+        if (contentElements.isEmpty() && !rule.isGeneric()) {
+            log.warn("[{}] 규칙 선택자로 본문을 찾지 못해 공통 선택자 사용: {}", rule.host(), url);
+            ruleCounter("rule_miss").increment();
+            rule = ExtractionRuleRegistry.GENERIC;
+            contentElements = root.select(rule.body());
+        }
+        if (contentElements.isEmpty()) {
+            return null;
+        }
+
+        List<Element> containers = rule.isGeneric() ? outermost(contentElements) : List.of(contentElements.first());
+
+        // 추출된 본문에서 불필요한 요소 제거
+        for (Element element : containers) {
+            strip(element, rule);
+        }
+        ruleCounter(rule.isGeneric() ? "generic" : "rule").increment();
+        return textOf(containers);
+    }
+
+    /**
+     * 다른 요소 안에 있는 요소를 뺀 바깥 요소만 (문서 순서의 선택 결과 기준)
+     */
+    private static List<Element> outermost(Elements elements) {
+        List<Element> result = new ArrayList<>();
+        for (Element element : elements) {
+            // 문서 순서이므로 조상이 있다면 마지막으로 남긴 요소가 조상이다
+            if (result.isEmpty() || !isDescendant(element, result.get(result.size() - 1))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 요소들의 텍스트를 공백으로 이어 붙임 (Elements.text()와 같은 형식)
+     */
+    private static String textOf(List<Element> elements) {
+        StringBuilder text = new StringBuilder();
+        for (Element element : elements) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(element.text());
+        }
+        return text.toString();
+    }
+
+    /**
+     * 본문에서 불필요한 요소 제거. 제거 선택자가 없는 규칙은 공통 제거 선택자를 사용한다.
+     */
+    private static void strip(Element element, ExtractionRuleRegistry.CompiledRule rule) {
+        element.select(rule.strip() != null ? rule.strip() : ExtractionRuleRegistry.GENERIC.strip()).remove();
+    }
+
+    private static boolean isDescendant(Element element, Element ancestor) {
+        for (Element parent = element.parent(); parent != null; parent = parent.parent()) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Counter ruleCounter(String result) {
+        return Counter.builder("article.extract.selector")
+                .description("본문 추출에 사용한 선택자 (rule / generic / rule_miss / not_found)")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 추출 결과가 실패 메시지인지 확인
+     */
+    public static boolean isFailure(String content) {
+        return content == null || content.startsWith(ERROR_PREFIX) || content.equals(NOT_FOUND_MESSAGE);
+    }
+}
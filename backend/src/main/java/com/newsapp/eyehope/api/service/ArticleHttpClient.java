@@ -0,0 +1,373 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.ArticleFetchConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.jsoup.UnsupportedMimeTypeException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 기사 페이지 다운로드용 공유 HTTP 클라이언트
+ * 하나의 JDK HttpClient를 모든 기사 요청에 사용하므로 같은 언론사 기사끼리 커넥션을 재사용하고,
+ * HTTPS 호스트는 HTTP/2를 지원하면 하나의 커넥션에 여러 요청을 실어 보낸다.
+ * 호스트별 동시 요청 수와 본문 크기, 요청부터 본문을 다 읽을 때까지의 전체 시간을 제한하며, 받은 바이트를 Jsoup에 넘겨 파싱한다.
+ * 본문은 스트림으로 넘기므로 필요한 부분을 찾은 뒤에는 나머지를 받지 않고 끝낼 수 있다.
+ */
+@Slf4j
+@Component
+public class ArticleHttpClient {
+
+    private static final Pattern CHARSET = Pattern.compile("charset=\"?([^\";\\s]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern META_CHARSET =
+            Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+    // meta 태그에서 charset을 찾을 앞부분 크기
+    private static final int CHARSET_SNIFF_BYTES = 4096;
+
+    private final ArticleFetchConfig config;
+    private final MeterRegistry registry;
+    private final HttpClient httpClient;
+    // 호스트별 동시 요청 제한
+    private final Map<String, Semaphore> hosts = new ConcurrentHashMap<>();
+    // 전체 제한 시간이 지나면 응답 스트림을 닫아 멈춘 본문 읽기를 끝냄
+    private final ScheduledExecutorService deadlines;
+    private final Counter truncatedCounter;
+
+    public ArticleHttpClient(ArticleFetchConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .build();
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-fetch-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.truncatedCounter = Counter.builder("article.fetch.truncated")
+                .description("크기 제한으로 뒷부분을 버린 기사 페이지 수")
+                .register(registry);
+    }
+
+    /**
+     * 응답 본문을 읽어 결과를 만드는 함수
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        /**
+         * @param body 압축 해제된 본문 (크기 제한 적용)
+         * @param charset Content-Type의 charset (없으면 null)
+         * @param url 리다이렉트 후 최종 URL
+         */
+        T read(Body body, String charset, String url) throws IOException;
+    }
+
+    /**
+     * 크기 제한과 읽은 바이트 수를 기록하는 본문 스트림
+     * 제한에 도달하면 EOF를 돌려주므로 파서는 앞부분만 파싱한다.
+     * 전체 제한 시간이 지나면 HttpTimeoutException을 던진다.
+     */
+    public static class Body extends FilterInputStream {
+        private final long maxBytes;
+        private final long deadlineNanos;
+        private long count;
+        private long usedBytes = -1;
+        private boolean truncated;
+
+        Body(InputStream in, long maxBytes, long deadlineNanos) {
+            super(in);
+            this.maxBytes = maxBytes;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (count >= maxBytes) {
+                truncated = true;
+                return -1;
+            }
+            int b = readBeforeDeadline(() -> super.read());
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (count >= maxBytes) {
+                truncated = true;
+                return -1;
+            }
+            int read = readBeforeDeadline(() -> super.read(buffer, offset, (int) Math.min(length, maxBytes - count)));
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        private int readBeforeDeadline(IoRead read) throws IOException {
+            checkDeadline();
+            try {
+                return read.read();
+            } catch (IOException e) {
+                // 제한 시간이 지나 스트림이 닫혀 실패한 경우
+                checkDeadline();
+                throw e;
+            }
+        }
+
+        private void checkDeadline() throws HttpTimeoutException {
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                throw new HttpTimeoutException("기사 본문 수신 시간 초과 (" + count + "바이트 수신)");
+            }
+        }
+
+        /**
+         * 크기 제한에 걸려 뒷부분을 버렸는지 여부
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * 지금까지 읽은 바이트 수
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 필요한 내용을 찾은 시점 표시 (마지막으로 표시한 뒤에 읽은 바이트는 쓰이지 않은 것으로 집계)
+         */
+        public void markUsed() {
+            usedBytes = count;
+        }
+
+        @FunctionalInterface
+        private interface IoRead {
+            int read() throws IOException;
+        }
+    }
+
+    /**
+     * 기사 페이지를 받아 본문 스트림을 reader에 넘김
+     * reader가 끝까지 읽지 않고 반환하면 나머지 응답은 받지 않는다.
+     * @param maxBytes 압축 해제 후 읽을 최대 바이트 수
+     * @throws HttpStatusException 2xx가 아닌 응답
+     * @throws UnsupportedMimeTypeException HTML/XML이 아닌 응답
+     */
+    public <T> T fetch(String url, long maxBytes, BodyReader<T> reader) throws IOException, InterruptedException {
+        URI uri = URI.create(url);
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "unknown";
+        Semaphore permits = hosts.computeIfAbsent(host, h -> new Semaphore(config.getMaxConnectionsPerHost(), true));
+
+        if (!permits.tryAcquire(config.getAcquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+            throw new IOException("호스트 동시 요청 대기 시간 초과: " + host);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getTotalTimeoutMs());
+        String protocol = "none";
+        String result = "error";
+        ScheduledFuture<?> watchdog = null;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    // 평문 HTTP에서 h2c 업그레이드를 시도하면 오동작하는 서버가 있어 HTTPS만 HTTP/2 사용
+                    .version("https".equalsIgnoreCase(uri.getScheme())
+                            ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                    .header("User-Agent", config.getUserAgent())
+                    .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                    .header("Accept-Encoding", "gzip, deflate")
+                    .GET()
+                    .build();
+
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            protocol = response.version().name();
+
+            try (InputStream raw = response.body()) {
+                // 본문 읽기가 멈춰도 제한 시간이 지나면 스트림을 닫아 대기 중인 read를 끝냄
+                watchdog = deadlines.schedule(() -> closeQuietly(raw), deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    result = "http_error";
+                    throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+                }
+
+                String contentType = response.headers().firstValue("Content-Type").orElse(null);
+                if (contentType != null && !isParsable(contentType)) {
+                    result = "unsupported";
+                    throw new UnsupportedMimeTypeException("Unhandled content type", contentType, url);
+                }
+
+                // 압축 폭탄을 막기 위해 압축 해제 후 크기 기준으로 제한
+                Body body = new Body(decode(raw, response.headers().firstValue("Content-Encoding").orElse(null)),
+                        Math.max(1, maxBytes), deadline);
+                T value = reader.read(body, charsetOf(contentType), response.uri().toString());
+                recordBytes(host, body, url);
+                result = "ok";
+                return value;
+            }
+        } catch (HttpTimeoutException e) {
+            result = "timeout";
+            throw e;
+        } finally {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+            // 파서가 예외를 감싸 던진 경우에도 제한 시간 초과로 집계
+            if ("error".equals(result) && System.nanoTime() - deadline >= 0) {
+                result = "timeout";
+            }
+            permits.release();
+            latencyTimer(host, protocol, result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordBytes(String host, Body body, String url) {
+        if (body.truncated) {
+            truncatedCounter.increment();
+            log.debug("기사 페이지 크기 제한({}바이트) 도달, 앞부분만 사용: {}", body.maxBytes, url);
+        }
+        bytesSummary(host, "downloaded").record(body.count);
+        bytesSummary(host, "used").record(body.usedBytes >= 0 ? body.usedBytes : body.count);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // 이미 닫혔거나 끊긴 스트림
+        }
+    }
+
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    /**
+     * 스트리밍 파싱용 Reader
+     * Content-Type에 charset이 없으면 앞부분의 BOM / meta 태그로 판단하고, 그래도 없으면 UTF-8로 읽는다.
+     */
+    public static Reader openReader(InputStream body, String charset) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body, CHARSET_SNIFF_BYTES * 2);
+        if (charset == null) {
+            in.mark(CHARSET_SNIFF_BYTES);
+            byte[] head = in.readNBytes(CHARSET_SNIFF_BYTES);
+            in.reset();
+            charset = detectCharset(head);
+        }
+        return new InputStreamReader(in, Charset.forName(charset));
+    }
+
+    /**
+     * BOM / meta 태그로 charset 판단 (찾지 못하면 UTF-8)
+     */
+    public static String detectCharset(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8.name();
+        }
+        String prefix = new String(head, 0, Math.min(head.length, CHARSET_SNIFF_BYTES), StandardCharsets.ISO_8859_1);
+        Matcher matcher = META_CHARSET.matcher(prefix);
+        if (matcher.find()) {
+            try {
+                if (Charset.isSupported(matcher.group(1))) {
+                    return matcher.group(1);
+                }
+            } catch (IllegalArgumentException e) {
+                // 잘못된 charset 이름은 무시
+            }
+        }
+        return StandardCharsets.UTF_8.name();
+    }
+
+    private static boolean isParsable(String contentType) {
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("html") || type.contains("xml");
+    }
+
+    /**
+     * Content-Type의 charset. 없거나 지원하지 않으면 null을 반환해 Jsoup이 meta 태그로 판단하게 한다.
+     */
+    private static String charsetOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        Matcher matcher = CHARSET.matcher(contentType);
+        if (!matcher.find()) {
+            return null;
+        }
+        String charset = matcher.group(1);
+        try {
+            return Charset.isSupported(charset) ? charset : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Timer latencyTimer(String host, String protocol, String result) {
+        return Timer.builder("article.fetch.latency")
+                .description("기사 페이지 다운로드 시간 (호스트별)")
+                .tag("host", host)
+                .tag("protocol", protocol)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private DistributionSummary bytesSummary(String host, String kind) {
+        return DistributionSummary.builder("article.fetch.bytes")
+                .description("기사 페이지당 받은 바이트(downloaded)와 본문을 찾을 때까지 필요했던 바이트(used)")
+                .baseUnit("bytes")
+                .tag("host", host)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlines.shutdownNow();
+    }
+}
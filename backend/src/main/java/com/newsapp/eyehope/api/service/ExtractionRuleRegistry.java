@@ -0,0 +1,164 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.domain.ExtractionRule;
+import com.newsapp.eyehope.api.repository.ExtractionRuleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.jsoup.select.Selector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 언론사 호스트별 본문 추출 규칙 (extraction_rules)
+ * 선택자는 불러올 때 한 번만 Jsoup Evaluator로 파싱해 두고 기사마다 재사용한다.
+ * 주기적으로(또는 actuator로) 다시 불러오며, 규칙이 없는 호스트는 공통 선택자를 사용한다.
+ */
+@Slf4j
+@Component
+public class ExtractionRuleRegistry {
+
+    private static final String GENERIC_BODY_SELECTOR = "article, .article, .article-body, .article-content, .news-content, .entry-content, #article-body, .news_content, .article_content, .articleBody, .article_view, #articleBody, #newsContent";
+    private static final String GENERIC_STRIP_SELECTOR = "script, style, iframe, .reporter, .share, .social, .related, .recommend, .copyright, .ad, .advertisement, .banner";
+
+    /**
+     * 파싱된 추출 규칙
+     * @param host 규칙 호스트 (공통 규칙은 null)
+     * @param version 선택자로 만든 규칙 버전. 선택자가 바뀌면 달라지므로 이전 규칙으로 추출한 본문 캐시를 구분한다.
+     */
+    public record CompiledRule(String host, String version, Evaluator body, Evaluator strip) {
+        public boolean isGeneric() {
+            return host == null;
+        }
+    }
+
+    public static final CompiledRule GENERIC = new CompiledRule(null,
+            versionOf(GENERIC_BODY_SELECTOR, GENERIC_STRIP_SELECTOR),
+            QueryParser.parse(GENERIC_BODY_SELECTOR), QueryParser.parse(GENERIC_STRIP_SELECTOR));
+
+    private final ExtractionRuleRepository extractionRuleRepository;
+
+    private volatile Map<String, CompiledRule> rules = Map.of();
+    private volatile Map<String, String> invalidRules = Map.of();
+    private volatile LocalDateTime loadedAt;
+
+    public ExtractionRuleRegistry(ExtractionRuleRepository extractionRuleRepository, MeterRegistry registry) {
+        this.extractionRuleRepository = extractionRuleRepository;
+
+        Gauge.builder("article.extract.rules", this, r -> r.rules.size())
+                .description("불러온 호스트별 본문 추출 규칙 수")
+                .register(registry);
+    }
+
+    /**
+     * 기사 URL에 맞는 규칙. 하위 도메인은 상위 도메인 규칙을 따른다 (news.example.com → example.com).
+     */
+    public CompiledRule ruleFor(String url) {
+        String host = hostOf(url);
+        Map<String, CompiledRule> current = rules;
+        while (host != null && host.indexOf('.') > 0) {
+            CompiledRule rule = current.get(host);
+            if (rule != null) {
+                return rule;
+            }
+            host = host.substring(host.indexOf('.') + 1);
+        }
+        return GENERIC;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${news.extraction-rules.reload-ms:300000}",
+            fixedDelayString = "${news.extraction-rules.reload-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * DB에서 규칙을 다시 불러옴. 선택자가 잘못된 규칙은 건너뛰고 기존 규칙 전체를 새 규칙으로 교체한다.
+     * @return 불러온 규칙 수
+     */
+    public synchronized int reload() {
+        List<ExtractionRule> entities;
+        try {
+            entities = extractionRuleRepository.findAllByEnabledTrue();
+        } catch (Exception e) {
+            log.warn("본문 추출 규칙 조회 실패, 기존 규칙 유지: {}", e.getMessage());
+            return rules.size();
+        }
+
+        Map<String, CompiledRule> compiled = new HashMap<>();
+        Map<String, String> invalid = new LinkedHashMap<>();
+        for (ExtractionRule entity : entities) {
+            String host = normalizeHost(entity.getHost());
+            if (host == null) {
+                continue;
+            }
+            try {
+                Evaluator body = QueryParser.parse(entity.getBodySelector());
+                Evaluator strip = entity.getStripSelector() == null || entity.getStripSelector().isBlank()
+                        ? null : QueryParser.parse(entity.getStripSelector());
+                // 제거 선택자가 없는 규칙은 공통 제거 선택자를 쓰므로 버전에도 반영
+                String version = versionOf(entity.getBodySelector(),
+                        strip != null ? entity.getStripSelector() : GENERIC_STRIP_SELECTOR);
+                compiled.put(host, new CompiledRule(host, version, body, strip));
+            } catch (Selector.SelectorParseException | IllegalArgumentException e) {
+                invalid.put(host, e.getMessage());
+                log.warn("본문 추출 규칙 선택자 오류 ({}): {}", host, e.getMessage());
+            }
+        }
+
+        rules = Map.copyOf(compiled);
+        invalidRules = invalid;
+        loadedAt = LocalDateTime.now();
+        log.debug("본문 추출 규칙 {}건 적용 (오류 {}건)", compiled.size(), invalid.size());
+        return compiled.size();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("loadedAt", loadedAt);
+        result.put("hosts", rules.keySet().stream().sorted().toList());
+        result.put("invalid", invalidRules);
+        return result;
+    }
+
+    /**
+     * 선택자 문자열로 만든 규칙 버전 (String.hashCode는 명세로 정해져 있어 재시작해도 같은 값)
+     */
+    static String versionOf(String bodySelector, String stripSelector) {
+        String source = bodySelector.trim() + "\n" + stripSelector.trim();
+        return Integer.toHexString(source.hashCode());
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return normalizeHost(URI.create(url.trim()).getHost());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String normalizeHost(String host) {
+        if (host == null || host.isBlank()) {
+            return null;
+        }
+        String normalized = host.trim().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("www.") ? normalized.substring(4) : normalized;
+    }
+}
@@ -0,0 +1,113 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.RssFeedConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RSS 피드 조건부 요청(ETag / Last-Modified) 캐시
+ * 변경되지 않은 피드는 다시 파싱하지 않도록 피드 URL별 검증값과 본문 해시를 보관한다.
+ * 마지막으로 본 기사(URL, 발행 시각)도 함께 보관하여 이미 수집한 기사에서 파싱을 멈출 수 있게 한다.
+ * 새 본문으로 만든 항목은 stage로 보류해 두고, 기사가 저장된 뒤 commit해야 반영된다.
+ * 저장에 실패하면 이전 항목이 남으므로 다음 수집에서 같은 기사를 다시 받아 파싱한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedFetchCache {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final String contentHash;
+        // 마지막 발행 시각에 나온 기사 URL (같은 시각의 다른 기사를 구분하기 위해 모두 보관)
+        private final Set<String> lastSeenUrls;
+        private final LocalDateTime lastSeenPublishedAt;
+
+        public Entry withValidators(String etag, String lastModified) {
+            return new Entry(etag, lastModified, contentHash, lastSeenUrls, lastSeenPublishedAt);
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 기사 저장을 기다리는 항목
+    private final Map<String, Entry> pending = new ConcurrentHashMap<>();
+
+    public Entry get(String url) {
+        return entries.get(url);
+    }
+
+    /**
+     * 바로 반영 (본문이 이전과 같아 새로 저장할 기사가 없는 경우)
+     */
+    public void put(String url, Entry entry) {
+        entries.put(url, entry);
+        pending.remove(url);
+    }
+
+    /**
+     * 새 본문으로 만든 항목을 보류 (commit 전까지 get은 이전 항목을 반환)
+     */
+    public void stage(String url, Entry entry) {
+        pending.put(url, entry);
+    }
+
+    /**
+     * 기사 저장이 끝난 피드의 보류 항목 반영
+     */
+    public void commit(String url) {
+        Entry entry = pending.remove(url);
+        if (entry != null) {
+            entries.put(url, entry);
+        }
+    }
+
+    /**
+     * 캐시 적중 기록 (304 응답 또는 동일한 본문 해시)
+     */
+    public void recordHit(RssFeedConfig.FeedInfo feedInfo, String reason) {
+        counter(feedInfo, "hit", reason).increment();
+    }
+
+    /**
+     * 캐시 미스 기록 (새 본문을 파싱한 경우)
+     */
+    public void recordMiss(RssFeedConfig.FeedInfo feedInfo) {
+        counter(feedInfo, "miss", "changed").increment();
+    }
+
+    private Counter counter(RssFeedConfig.FeedInfo feedInfo, String result, String reason) {
+        return Counter.builder("rss.feed.cache")
+                .description("RSS 피드 조건부 요청 캐시 적중/미스 횟수")
+                .tag("source", String.valueOf(feedInfo.getSource()))
+                .tag("category", String.valueOf(feedInfo.getCategory()))
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 피드 본문의 SHA-256 해시
+     */
+    public static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
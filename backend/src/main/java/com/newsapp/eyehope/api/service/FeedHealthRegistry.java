@@ -0,0 +1,227 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.RssFeedConfig;
+import com.newsapp.eyehope.api.config.RssFetchConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 피드별 서킷 브레이커
+ * 연속 실패가 임계치를 넘으면 피드를 차단(OPEN)하고, 차단 시간이 지나면 한 번만 시험 수집(HALF_OPEN)한다.
+ * 시험 수집이 성공하면 정상(CLOSED)으로 돌아가고, 실패하면 차단 시간을 두 배로 늘려 다시 차단한다.
+ */
+@Slf4j
+@Component
+public class FeedHealthRegistry {
+
+    public enum State {
+        CLOSED,     // 정상 수집
+        OPEN,       // 차단 - 재시도 시각까지 건너뜀
+        HALF_OPEN   // 시험 수집 중
+    }
+
+    /**
+     * 차단된 피드를 수집하려 할 때 발생
+     */
+    @Getter
+    public static class FeedCircuitOpenException extends RuntimeException {
+        private final LocalDateTime retryAt;
+
+        public FeedCircuitOpenException(String url, LocalDateTime retryAt) {
+            super("피드 차단 중 (재시도 " + retryAt + "): " + url);
+            this.retryAt = retryAt;
+        }
+    }
+
+    /**
+     * 피드 상태 스냅샷 (actuator 응답용)
+     */
+    @Getter
+    @Builder
+    public static class FeedHealth {
+        private final String source;
+        private final String category;
+        private final String url;
+        private final State state;
+        private final int consecutiveFailures;
+        private final long backoffSeconds;
+        private final LocalDateTime retryAt;
+        private final LocalDateTime lastSuccessAt;
+        private final LocalDateTime lastFailureAt;
+        private final String lastError;
+    }
+
+    private static class Health {
+        private final RssFeedConfig.FeedInfo feedInfo;
+        private volatile State state = State.CLOSED;
+        private volatile int consecutiveFailures;
+        private long backoffSeconds;
+        private LocalDateTime retryAt;
+        private LocalDateTime lastSuccessAt;
+        private LocalDateTime lastFailureAt;
+        private String lastError;
+
+        private Health(RssFeedConfig.FeedInfo feedInfo) {
+            this.feedInfo = feedInfo;
+        }
+    }
+
+    private final RssFetchConfig fetchConfig;
+    private final MeterRegistry registry;
+    private final Map<String, Health> feeds = new ConcurrentHashMap<>();
+
+    public FeedHealthRegistry(RssFetchConfig fetchConfig, MeterRegistry registry) {
+        this.fetchConfig = fetchConfig;
+        this.registry = registry;
+
+        for (State state : State.values()) {
+            Gauge.builder("rss.feed.health.feeds", this, r -> r.countByState(state))
+                    .tag("state", state.name())
+                    .description("상태별 RSS 피드 수")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 수집 가능 여부 확인. 차단 중이면 예외를 던진다.
+     * 차단 시간이 지난 피드는 HALF_OPEN으로 바꾸고 한 번만 통과시킨다.
+     */
+    public void acquire(RssFeedConfig.FeedInfo feedInfo) {
+        Health health = healthOf(feedInfo);
+        synchronized (health) {
+            switch (health.state) {
+                case CLOSED -> {
+                }
+                case OPEN -> {
+                    if (LocalDateTime.now().isBefore(health.retryAt)) {
+                        throw new FeedCircuitOpenException(feedInfo.getUrl(), health.retryAt);
+                    }
+                    health.state = State.HALF_OPEN;
+                    log.info("[{}] {} 피드 시험 수집", feedInfo.getSource(), feedInfo.getCategory());
+                }
+                // 시험 수집은 한 번에 하나만
+                case HALF_OPEN -> throw new FeedCircuitOpenException(feedInfo.getUrl(), health.retryAt);
+            }
+        }
+    }
+
+    public void recordSuccess(RssFeedConfig.FeedInfo feedInfo) {
+        Health health = healthOf(feedInfo);
+        synchronized (health) {
+            if (health.state != State.CLOSED) {
+                log.info("[{}] {} 피드 복구 ({}회 연속 실패 후)",
+                        feedInfo.getSource(), feedInfo.getCategory(), health.consecutiveFailures);
+            }
+            health.state = State.CLOSED;
+            health.consecutiveFailures = 0;
+            health.backoffSeconds = 0;
+            health.retryAt = null;
+            health.lastSuccessAt = LocalDateTime.now();
+        }
+    }
+
+    public void recordFailure(RssFeedConfig.FeedInfo feedInfo, Throwable error) {
+        Health health = healthOf(feedInfo);
+        synchronized (health) {
+            LocalDateTime now = LocalDateTime.now();
+            health.consecutiveFailures++;
+            health.lastFailureAt = now;
+            health.lastError = error.getClass().getSimpleName() + ": " + error.getMessage();
+
+            boolean trip = health.state == State.HALF_OPEN
+                    || health.consecutiveFailures >= fetchConfig.getCircuitFailureThreshold();
+            if (!trip) {
+                return;
+            }
+
+            health.backoffSeconds = health.state == State.HALF_OPEN
+                    ? Math.min(health.backoffSeconds * 2, fetchConfig.getCircuitMaxBackoffSeconds())
+                    : fetchConfig.getCircuitBaseBackoffSeconds();
+            health.state = State.OPEN;
+            health.retryAt = now.plusSeconds(health.backoffSeconds);
+            log.warn("[{}] {} 피드 차단: {}회 연속 실패, {}초 후 재시도 ({})",
+                    feedInfo.getSource(), feedInfo.getCategory(), health.consecutiveFailures,
+                    health.backoffSeconds, health.lastError);
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 수집 (중단 등). 시험 수집 중이었다면 다음 수집에서 다시 시험하도록 되돌린다.
+     */
+    public void abandon(RssFeedConfig.FeedInfo feedInfo) {
+        Health health = healthOf(feedInfo);
+        synchronized (health) {
+            if (health.state == State.HALF_OPEN) {
+                health.state = State.OPEN;
+            }
+        }
+    }
+
+    /**
+     * 차단을 해제하고 다음 수집부터 정상 처리
+     * @return 해당 URL의 피드가 있었는지 여부
+     */
+    public boolean reset(String url) {
+        Health health = feeds.get(url);
+        if (health == null) {
+            return false;
+        }
+        synchronized (health) {
+            health.state = State.CLOSED;
+            health.consecutiveFailures = 0;
+            health.backoffSeconds = 0;
+            health.retryAt = null;
+        }
+        return true;
+    }
+
+    public List<FeedHealth> snapshot() {
+        List<FeedHealth> result = new ArrayList<>();
+        for (Health health : feeds.values()) {
+            synchronized (health) {
+                result.add(FeedHealth.builder()
+                        .source(health.feedInfo.getSource())
+                        .category(health.feedInfo.getCategory())
+                        .url(health.feedInfo.getUrl())
+                        .state(health.state)
+                        .consecutiveFailures(health.consecutiveFailures)
+                        .backoffSeconds(health.backoffSeconds)
+                        .retryAt(health.retryAt)
+                        .lastSuccessAt(health.lastSuccessAt)
+                        .lastFailureAt(health.lastFailureAt)
+                        .lastError(health.lastError)
+                        .build());
+            }
+        }
+        result.sort(Comparator.comparing(FeedHealth::getState).reversed()
+                .thenComparing(FeedHealth::getConsecutiveFailures, Comparator.reverseOrder()));
+        return result;
+    }
+
+    private Health healthOf(RssFeedConfig.FeedInfo feedInfo) {
+        return feeds.computeIfAbsent(feedInfo.getUrl(), url -> {
+            Health health = new Health(feedInfo);
+            Gauge.builder("rss.feed.consecutive.failures", health, h -> h.consecutiveFailures)
+                    .tag("source", String.valueOf(feedInfo.getSource()))
+                    .tag("category", String.valueOf(feedInfo.getCategory()))
+                    .description("RSS 피드별 연속 실패 횟수")
+                    .register(registry);
+            return health;
+        });
+    }
+
+    private double countByState(State state) {
+        return feeds.values().stream().filter(health -> health.state == state).count();
+    }
+}
@@ -0,0 +1,103 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.FeedPollingConfig;
+import com.newsapp.eyehope.api.domain.News;
+import com.newsapp.eyehope.api.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 피드별 신규 기사 도착률로 다음 수집 시각을 계산하는 정책
+ * 학습된 주기는 news 테이블에 저장되어 재시작 후에도 유지된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedPollingPolicy {
+
+    private final NewsRepository newsRepository;
+    private final FeedPollingConfig pollingConfig;
+
+    /**
+     * 수집 결과를 반영하여 도착률과 다음 수집 시각 갱신
+     * @param feedId news 테이블 행 ID
+     * @param newEntries 이번 수집에서 새로 저장된 기사 수
+     */
+    @Transactional
+    public void recordPoll(Long feedId, int newEntries) {
+        if (feedId == null) return;
+
+        newsRepository.findById(feedId).ifPresent(news -> {
+            LocalDateTime now = LocalDateTime.now();
+            long currentInterval = currentInterval(news);
+
+            // 지난 수집 이후 경과 시간 기준 시간당 도착률
+            double elapsedHours = news.getLastPolledAt() != null
+                    ? Math.max(Duration.between(news.getLastPolledAt(), now).getSeconds(), 1) / 3600.0
+                    : currentInterval / 3600.0;
+            double observedRate = newEntries / elapsedHours;
+
+            double rate = news.getArrivalRate() == null
+                    ? observedRate
+                    : pollingConfig.getSmoothing() * observedRate
+                      + (1 - pollingConfig.getSmoothing()) * news.getArrivalRate();
+
+            long nextInterval = rate > 0
+                    ? (long) (pollingConfig.getTargetEntriesPerPoll() / rate * 3600)
+                    : pollingConfig.getMaxIntervalSeconds();
+            nextInterval = clamp(nextInterval);
+
+            news.setArrivalRate(rate);
+            news.setPollIntervalSeconds(nextInterval);
+            news.setLastPolledAt(now);
+            news.setNextPollAt(now.plusSeconds(nextInterval));
+
+            log.debug("[{}] {} 수집 주기 갱신: 신규 {}건, 도착률 {}/h, 다음 주기 {}초",
+                    news.getPressName(), news.getCategory(), newEntries,
+                    String.format("%.2f", rate), nextInterval);
+        });
+    }
+
+    /**
+     * 수집에 실패한 피드는 주기를 유지한 채 다음 수집 시각만 미룬다
+     */
+    @Transactional
+    public void recordFailure(Long feedId) {
+        if (feedId == null) return;
+
+        newsRepository.findById(feedId).ifPresent(news -> {
+            LocalDateTime now = LocalDateTime.now();
+            news.setNextPollAt(now.plusSeconds(currentInterval(news)));
+        });
+    }
+
+    /**
+     * 서킷 브레이커로 차단된 피드는 재시도 시각까지 수집 예정에서 뺀다
+     */
+    @Transactional
+    public void deferUntil(Long feedId, LocalDateTime retryAt) {
+        if (feedId == null || retryAt == null) return;
+
+        newsRepository.findById(feedId).ifPresent(news -> {
+            if (news.getNextPollAt() == null || news.getNextPollAt().isBefore(retryAt)) {
+                news.setNextPollAt(retryAt);
+            }
+        });
+    }
+
+    private long currentInterval(News news) {
+        return news.getPollIntervalSeconds() != null
+                ? news.getPollIntervalSeconds()
+                : clamp(pollingConfig.getInitialIntervalSeconds());
+    }
+
+    private long clamp(long intervalSeconds) {
+        return Math.min(pollingConfig.getMaxIntervalSeconds(),
+                Math.max(pollingConfig.getMinIntervalSeconds(), intervalSeconds));
+    }
+}
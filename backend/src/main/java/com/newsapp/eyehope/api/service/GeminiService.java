@@ -1,36 +1,30 @@
 package com.newsapp.eyehope.api.service;
 
 import com.newsapp.eyehope.api.config.GeminiConfig;
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.exception.LlmProviderException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-public class GeminiService {
+public class GeminiService extends AbstractLlmProvider {
 
     private static final int MAX_RETRIES = 5;
     private static final long INITIAL_BACKOFF_MS = 1000;
     private static final double BACKOFF_MULTIPLIER = 1.5;
 
-    private final Semaphore rateLimiter = new Semaphore(5);
-    private final RestTemplate restTemplate;
     private final GeminiConfig geminiConfig;
 
     // Micrometer 메트릭
@@ -42,8 +36,9 @@ public class GeminiService {
     private final Timer responseTimer;
 
     @Autowired
-    public GeminiService(RestTemplate restTemplate, GeminiConfig geminiConfig, MeterRegistry registry) {
-        this.restTemplate = restTemplate;
+    public GeminiService(LlmHttpClient llmHttpClient, LlmRateLimiter llmRateLimiter, GeminiConfig geminiConfig,
+                         MeterRegistry registry) {
+        super(llmHttpClient, llmRateLimiter);
         this.geminiConfig = geminiConfig;
 
         // 성공/실패 카운터
@@ -77,123 +72,105 @@ public class GeminiService {
                 .register(registry);
     }
 
-    public String generateContent(String prompt) {
-        AtomicBoolean acquired = new AtomicBoolean(false);
-        return responseTimer.record(() -> {
-            try {
-                log.debug("Waiting for rate limiter permit...");
-                acquired.set(rateLimiter.tryAcquire(30, TimeUnit.SECONDS));
-                if (!acquired.get()) {
-                    log.warn("Failed to acquire rate limiter permit after 30 seconds");
-                    rateLimitCounter.increment();
-                    errorCounter.increment();
-                    return "Error: Rate limit exceeded, please try again later";
-                }
-                log.debug("Rate limiter permit acquired");
-
-                JSONObject requestBody = new JSONObject();
-                JSONArray contents = new JSONArray();
-                JSONObject content = new JSONObject();
-                JSONArray parts = new JSONArray();
-                JSONObject part = new JSONObject();
-                part.put("text", prompt);
-                parts.put(part);
-                content.put("parts", parts);
-                contents.put(content);
-                requestBody.put("contents", contents);
-
-                JSONObject generationConfig = new JSONObject();
-                JSONObject thinkingConfig = new JSONObject();
-                thinkingConfig.put("thinkingBudget", 0);
-                generationConfig.put("thinkingConfig", thinkingConfig);
-                requestBody.put("generationConfig", generationConfig);
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                HttpEntity<String> entity = new HttpEntity<>(requestBody.toString(), headers);
-
-                int retries = 0;
-                long backoffTime = INITIAL_BACKOFF_MS;
-                String response = null;
-
-                while (retries <= MAX_RETRIES) {
-                    try {
-                        response = restTemplate.postForObject(geminiConfig.getApiUrl(), entity, String.class);
-                        break;
-                    } catch (HttpClientErrorException | HttpServerErrorException e) {
-                        retries++;
-                        retryCounter.increment();
-
-                        if (e.getResponseBodyAsString().contains("The model is overloaded") ||
-                                e.getResponseBodyAsString().contains("model overloaded")) {
-                            overloadCounter.increment();
-
-                            if (retries <= MAX_RETRIES) {
-                                log.warn("Gemini API overloaded, retrying in {} ms (attempt {}/{})",
-                                        backoffTime, retries, MAX_RETRIES);
-                                try {
-                                    Thread.sleep(backoffTime);
-                                } catch (InterruptedException ie) {
-                                    Thread.currentThread().interrupt();
-                                    log.error("Retry interrupted", ie);
-                                    errorCounter.increment();
-                                    return "Error: Retry interrupted";
-                                }
-                                backoffTime = (long) (backoffTime * BACKOFF_MULTIPLIER);
-                            } else {
-                                log.error("Gemini API still overloaded after {} retries", MAX_RETRIES);
-                                errorCounter.increment();
-                                return "Error: Gemini API is currently overloaded, please try again later";
-                            }
-                        } else {
-                            log.error("Gemini API error: {}", e.getMessage(), e);
-                            errorCounter.increment();
-                            return "Error generating content: " + e.getMessage();
-                        }
-                    } catch (RestClientException e) {
-                        log.error("Gemini API 호출 중 오류 발생: {}", e.getMessage(), e);
-                        errorCounter.increment();
-                        return "Error generating content: " + e.getMessage();
-                    }
-                }
-
-                if (response == null) {
-                    errorCounter.increment();
-                    return "Error: Failed to get response from Gemini API after retries";
-                }
+    @Override
+    public String getName() {
+        return SummarizationConfig.PROVIDER_GEMINI;
+    }
 
-                successCounter.increment();
-                return extractTextFromResponse(response);
+    @Override
+    public String getModel() {
+        return geminiConfig.getModel();
+    }
 
-            } catch (Exception e) {
-                log.error("Gemini API 호출 중 오류 발생: {}", e.getMessage(), e);
+    /**
+     * 모델 과부하 응답은 백오프 후 재시도 (대기 중에는 스레드를 점유하지 않음)
+     * 동시 호출 수와 분당 한도는 LlmRateLimiter가 관리한다.
+     */
+    @Override
+    public CompletableFuture<LlmCompletion> completeAsync(String prompt) {
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<LlmCompletion> result;
+        try {
+            result = attempt(prompt, 0, INITIAL_BACKOFF_MS);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((completion, error) -> {
+            if (error == null) {
+                successCounter.increment();
+            } else {
                 errorCounter.increment();
-                return "Error generating content: " + e.getMessage();
-            } finally {
-                if (acquired.get()) {
-                    rateLimiter.release();
-                    log.debug("Rate limiter permit released");
-                }
             }
+            sample.stop(responseTimer);
         });
     }
 
-    private String extractTextFromResponse(String response) {
-        try {
-            JSONObject jsonResponse = new JSONObject(response);
-            JSONArray candidates = jsonResponse.getJSONArray("candidates");
-            if (candidates.length() > 0) {
-                JSONObject candidate = candidates.getJSONObject(0);
-                JSONObject content = candidate.getJSONObject("content");
-                JSONArray parts = content.getJSONArray("parts");
-                if (parts.length() > 0) {
-                    return parts.getJSONObject(0).getString("text");
-                }
+    private CompletableFuture<LlmCompletion> attempt(String prompt, int retries, long backoffTime) {
+        return super.completeAsync(prompt).exceptionallyCompose(error -> {
+            LlmProviderException e = LlmProviderException.from(getName(), error);
+            if (e.isRateLimited()) {
+                rateLimitCounter.increment();
+            }
+            if (!e.isOverloaded()) {
+                log.error("Gemini API error: {}", e.getMessage());
+                return CompletableFuture.failedFuture(e);
+            }
+            overloadCounter.increment();
+            if (retries >= MAX_RETRIES) {
+                log.error("Gemini API still overloaded after {} retries", MAX_RETRIES);
+                return CompletableFuture.failedFuture(e);
             }
-            return "No response generated";
-        } catch (Exception e) {
-            log.error("Gemini API 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
-            return "Error parsing response: " + e.getMessage();
+            retryCounter.increment();
+            log.warn("Gemini API overloaded, retrying in {} ms (attempt {}/{})",
+                    backoffTime, retries + 1, MAX_RETRIES);
+            Executor delayed = CompletableFuture.delayedExecutor(backoffTime, TimeUnit.MILLISECONDS,
+                    getLlmHttpClient().getCallbackExecutor());
+            return CompletableFuture.supplyAsync(() -> null, delayed)
+                    .thenCompose(ignored -> attempt(prompt, retries + 1, (long) (backoffTime * BACKOFF_MULTIPLIER)));
+        });
+    }
+
+    @Override
+    protected String endpoint() {
+        return geminiConfig.getApiUrl();
+    }
+
+    @Override
+    protected JSONObject buildRequestBody(String prompt) {
+        JSONObject requestBody = new JSONObject();
+        JSONArray contents = new JSONArray();
+        JSONObject content = new JSONObject();
+        JSONArray parts = new JSONArray();
+        JSONObject part = new JSONObject();
+        part.put("text", prompt);
+        parts.put(part);
+        content.put("parts", parts);
+        contents.put(content);
+        requestBody.put("contents", contents);
+
+        JSONObject generationConfig = new JSONObject();
+        JSONObject thinkingConfig = new JSONObject();
+        thinkingConfig.put("thinkingBudget", 0);
+        generationConfig.put("thinkingConfig", thinkingConfig);
+        requestBody.put("generationConfig", generationConfig);
+        return requestBody;
+    }
+
+    @Override
+    protected LlmCompletion parseResponse(JSONObject response) {
+        JSONArray candidates = response.getJSONArray("candidates");
+        if (candidates.isEmpty()) {
+            throw new JSONException("candidates가 비어 있습니다");
         }
+        JSONArray parts = candidates.getJSONObject(0).getJSONObject("content").getJSONArray("parts");
+        if (parts.isEmpty()) {
+            throw new JSONException("parts가 비어 있습니다");
+        }
+        String text = parts.getJSONObject(0).getString("text");
+
+        JSONObject usage = response.optJSONObject("usageMetadata");
+        int promptTokens = usage != null ? usage.optInt("promptTokenCount") : 0;
+        int completionTokens = usage != null ? usage.optInt("candidatesTokenCount") : 0;
+        return new LlmCompletion(getName(), getModel(), text, promptTokens, completionTokens);
     }
-}
\ No newline at end of file
+}
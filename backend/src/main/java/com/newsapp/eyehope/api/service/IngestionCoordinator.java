@@ -0,0 +1,235 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.dto.CollectJobResponseDto;
+import com.newsapp.eyehope.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 뉴스 수집 실행 조정기 (single-flight)
+ * 수집 작업은 범위와 관계없이 한 번에 하나씩만 실행하고, 나머지는 요청 순서대로 대기시킨다.
+ * 새 요청을 포함하는 작업이 이미 실행 중이거나 대기 중이면 새로 만들지 않고 그 작업에 합친다.
+ * <ul>
+ *   <li>CATEGORY:x ⊂ ALL, DUE ⊂ ALL: 전체 수집이 있으면 카테고리/예정 수집은 합친다</li>
+ *   <li>CATEGORY:x와 DUE는 서로 겹칠 수 있지만 어느 쪽도 다른 쪽을 포함하지 않으므로 차례로 실행한다
+ *       (앞 작업이 수집한 피드는 다음 수집 예정 시각이 뒤로 밀려 예정 수집에서 다시 가져오지 않는다)</li>
+ * </ul>
+ * 같은 범위의 작업은 최대 하나만 대기하므로 대기열 길이는 범위 수(카테고리 수 + 2)를 넘지 않는다.
+ * 수집은 전용 스레드에서 실행되고 호출한 쪽은 작업 ID만 받아 바로 반환된다.
+ */
+@Slf4j
+@Component
+public class IngestionCoordinator {
+
+    public static final String SCOPE_ALL = "ALL";
+    public static final String SCOPE_DUE = "DUE";
+    private static final String SCOPE_CATEGORY_PREFIX = "CATEGORY:";
+
+    // 조회용으로 보관할 완료된 작업 수
+    private static final int MAX_FINISHED_JOBS = 50;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 수집 작업 1건
+     */
+    private static class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final String scope;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final AtomicInteger triggers = new AtomicInteger(1);
+        private volatile Status status = Status.QUEUED;
+        private volatile LocalDateTime finishedAt;
+        private volatile IngestionRun run;
+        private volatile String error;
+
+        private Job(String scope) {
+            this.scope = scope;
+        }
+    }
+
+    private final NewsService newsService;
+    private final RssFeedService rssFeedService;
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+
+    // 범위별 실행 중/대기 중인 작업 (요청 순서)
+    private final Map<String, Job> inFlight = new LinkedHashMap<>();
+    // 최근 작업 (진행 중 + 완료)
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    public IngestionCoordinator(NewsService newsService, RssFeedService rssFeedService, MeterRegistry registry) {
+        this.newsService = newsService;
+        this.rssFeedService = rssFeedService;
+        this.registry = registry;
+
+        // 단일 스레드: 제출 순서대로 하나씩 실행
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ingest-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 전체 수집 요청
+     * 노드 분배와 관계없이 요청을 받은 노드가 모든 피드를 수집한다.
+     */
+    public CollectJobResponseDto collectAll() {
+        return trigger(SCOPE_ALL, newsService::collectAllNews);
+    }
+
+    /**
+     * 카테고리 수집 요청
+     * 노드 분배와 관계없이 요청을 받은 노드가 카테고리의 모든 피드를 수집한다.
+     */
+    public CollectJobResponseDto collectCategory(String category) {
+        if (!rssFeedService.hasCategory(category)) {
+            throw new IllegalArgumentException("수집할 피드가 없는 카테고리입니다: " + category);
+        }
+        return trigger(SCOPE_CATEGORY_PREFIX + category,
+                onStart -> newsService.collectNewsByCategory(category, onStart));
+    }
+
+    /**
+     * 수집 예정 시각이 지난 피드 수집 요청 (스케줄러)
+     */
+    public CollectJobResponseDto collectDue() {
+        return trigger(SCOPE_DUE, newsService::collectDueNews);
+    }
+
+    public CollectJobResponseDto getJob(String id) {
+        Job job;
+        synchronized (this) {
+            job = jobs.get(id);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException("CollectJob", id);
+        }
+        return toDto(job, false);
+    }
+
+    private CollectJobResponseDto trigger(String scope, Consumer<Consumer<IngestionRun>> collector) {
+        Job job;
+        synchronized (this) {
+            Job covering = findCovering(scope);
+            if (covering != null) {
+                covering.triggers.incrementAndGet();
+                counter(scope, "joined").increment();
+                log.info("수집 요청({})을 {} 작업 {}({})에 합침",
+                        scope, covering.status == Status.QUEUED ? "대기 중인" : "진행 중인", covering.id, covering.scope);
+                return toDto(covering, true);
+            }
+
+            job = new Job(scope);
+            boolean idle = inFlight.isEmpty();
+            if (idle) {
+                job.status = Status.RUNNING;
+            } else {
+                log.info("수집 요청({})을 대기열에 추가: 진행 중/대기 중인 작업 {}건", scope, inFlight.size());
+            }
+            inFlight.put(scope, job);
+            jobs.put(job.id, job);
+            evictFinishedJobs();
+            counter(scope, idle ? "started" : "queued").increment();
+        }
+
+        Job started = job;
+        executor.execute(() -> execute(started, collector));
+        return toDto(job, false);
+    }
+
+    /**
+     * 요청 범위를 포함하는 실행 중/대기 중 작업 (같은 범위 또는 전체 수집)
+     */
+    private Job findCovering(String scope) {
+        Job same = inFlight.get(scope);
+        if (same != null) {
+            return same;
+        }
+        // 전체 수집은 카테고리/예정 수집을 모두 포함한다
+        return inFlight.get(SCOPE_ALL);
+    }
+
+    private void execute(Job job, Consumer<Consumer<IngestionRun>> collector) {
+        job.status = Status.RUNNING;
+        log.info("수집 작업 시작: {} ({})", job.id, job.scope);
+        Status outcome = Status.FAILED;
+        try {
+            collector.accept(run -> job.run = run);
+            outcome = Status.COMPLETED;
+        } catch (Exception e) {
+            log.error("수집 작업 실패: {} ({}): {}", job.id, job.scope, e.getMessage(), e);
+            job.error = e.getMessage();
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            // 끝난 작업에 새 요청이 합쳐지지 않도록 상태 변경과 대기열 제거를 함께 처리
+            synchronized (this) {
+                job.status = outcome;
+                inFlight.remove(job.scope, job);
+            }
+            log.info("수집 작업 종료: {} ({}) - {}", job.id, job.scope, job.status);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        long finished = jobs.values().stream().filter(IngestionCoordinator::isFinished).count();
+        Iterator<Job> iterator = jobs.values().iterator();
+        while (finished > MAX_FINISHED_JOBS && iterator.hasNext()) {
+            if (isFinished(iterator.next())) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+
+    private static boolean isFinished(Job job) {
+        return job.status == Status.COMPLETED || job.status == Status.FAILED;
+    }
+
+    private CollectJobResponseDto toDto(Job job, boolean joined) {
+        IngestionRun run = job.run;
+        return CollectJobResponseDto.builder()
+                .jobId(job.id)
+                .scope(job.scope)
+                .status(job.status.name())
+                .joined(joined)
+                .triggers(job.triggers.get())
+                .requestedAt(job.requestedAt)
+                .finishedAt(job.finishedAt)
+                .feedCount(run != null ? run.getFeedCount() : null)
+                .newPosts(run != null ? run.getNewPosts().get() : null)
+                .summarized(run != null ? run.getSummarized().get() : null)
+                .stages(run != null ? run.stageCounts() : Map.of())
+                .error(job.error)
+                .build();
+    }
+
+    private Counter counter(String scope, String result) {
+        return Counter.builder("news.collect.trigger")
+                .description("수집 요청 수 (새로 시작 / 대기열에 추가 / 진행 중이거나 대기 중인 작업에 합침)")
+                .tag("scope", scope.startsWith(SCOPE_CATEGORY_PREFIX) ? "CATEGORY" : scope)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,400 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.IngestionPipelineConfig;
+import com.newsapp.eyehope.api.config.RssFeedConfig;
+import com.newsapp.eyehope.api.domain.Posts;
+import com.newsapp.eyehope.api.dto.PostsRequestDto;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import com.newsapp.eyehope.api.util.UrlFingerprint;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 단계별 뉴스 수집 파이프라인
+ * 피드 수집 → 중복 제거(신규 기사 저장) → 본문 추출 → 요약 → 요약 저장
+ * 각 단계는 자체 워커와 제한된 큐를 가지므로 가장 느린 단계(LLM)가 다른 단계를 막지 않으며,
+ * 큐가 가득 차면 앞 단계가 대기하여 메모리 사용량이 제한된다.
+ * 새 기사는 저장과 함께 요약 작업 큐(summary_tasks)에 등록되며, 요약 저장과 같은 트랜잭션에서 완료 처리된다.
+ */
+@Slf4j
+@Component
+public class IngestionPipeline {
+
+    public static final String STAGE_FETCH = "fetch";
+    public static final String STAGE_DEDUP = "dedup";
+    public static final String STAGE_EXTRACT = "extract";
+    public static final String STAGE_SUMMARIZE = "summarize";
+    // 요약 단계가 넘긴 LLM 호출 (SummarizationExecutor에서 진행)
+    public static final String STAGE_LLM = "llm";
+    public static final String STAGE_PERSIST = "persist";
+
+    record FeedTask(IngestionRun run, RssFeedConfig.FeedInfo feedInfo) implements PipelineStage.Item {
+    }
+
+    record FeedBatch(IngestionRun run, RssFeedConfig.FeedInfo feedInfo, List<PostsRequestDto> posts)
+            implements PipelineStage.Item {
+    }
+
+    record NewArticle(IngestionRun run, Posts post, ClaimedTask task) implements PipelineStage.Item {
+    }
+
+    record ExtractedArticle(IngestionRun run, Posts post, ClaimedTask task, String content) implements PipelineStage.Item {
+    }
+
+    record SummarizedArticle(IngestionRun run, Posts post, ClaimedTask task, NewsSummarizer.Summary summary)
+            implements PipelineStage.Item {
+    }
+
+    private final RssFeedService rssFeedService;
+    private final PostsWriter postsWriter;
+    private final PostsRepository postsRepository;
+    private final SummaryTaskQueue summaryTaskQueue;
+    private final FeedPollingPolicy feedPollingPolicy;
+    private final ArticleExtractor articleExtractor;
+    private final NewsSummarizer newsSummarizer;
+    private final SummarizationExecutor summarizationExecutor;
+
+    private final PipelineStage<FeedTask> fetchStage;
+    private final PipelineStage<FeedBatch> dedupStage;
+    private final PipelineStage<NewArticle> extractStage;
+    private final PipelineStage<ExtractedArticle> summarizeStage;
+    private final PipelineStage<SummarizedArticle> persistStage;
+    // 저장 단계 큐가 가득 찼을 때 요약 결과를 대신 넣어 주고, 요약 실패를 작업 큐에 반영하는 전용 스레드
+    // (LLM 응답 처리 스레드는 모든 LLM 호출이 공유하므로 저장 단계 큐나 DB에서 대기하면 안 됨)
+    private final ExecutorService persistHandoff;
+
+    public IngestionPipeline(RssFeedService rssFeedService, PostsWriter postsWriter,
+                             PostsRepository postsRepository, SummaryTaskQueue summaryTaskQueue,
+                             FeedPollingPolicy feedPollingPolicy, ArticleExtractor articleExtractor,
+                             NewsSummarizer newsSummarizer, SummarizationExecutor summarizationExecutor,
+                             IngestionPipelineConfig config, MeterRegistry registry) {
+        this.rssFeedService = rssFeedService;
+        this.postsWriter = postsWriter;
+        this.postsRepository = postsRepository;
+        this.summaryTaskQueue = summaryTaskQueue;
+        this.feedPollingPolicy = feedPollingPolicy;
+        this.articleExtractor = articleExtractor;
+        this.newsSummarizer = newsSummarizer;
+        this.summarizationExecutor = summarizationExecutor;
+
+        this.fetchStage = new PipelineStage<>(STAGE_FETCH, config.getFetchWorkers(),
+                config.getFetchQueueCapacity(), 1, this::fetch, registry);
+        this.dedupStage = new PipelineStage<>(STAGE_DEDUP, config.getDedupWorkers(),
+                config.getDedupQueueCapacity(), config.getDedupBatchSize(), this::dedup, registry);
+        this.extractStage = new PipelineStage<>(STAGE_EXTRACT, config.getExtractWorkers(),
+                config.getExtractQueueCapacity(), 1, this::extract, registry);
+        this.summarizeStage = new PipelineStage<>(STAGE_SUMMARIZE, config.getSummarizeWorkers(),
+                config.getSummarizeQueueCapacity(), 1, this::summarize, registry);
+        this.persistStage = new PipelineStage<>(STAGE_PERSIST, config.getPersistWorkers(),
+                config.getPersistQueueCapacity(), config.getPersistBatchSize(), this::persist, registry);
+        this.persistHandoff = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pipeline-" + STAGE_PERSIST + "-handoff");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        persistStage.start();
+        summarizeStage.start();
+        extractStage.start();
+        dedupStage.start();
+        fetchStage.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        fetchStage.stop();
+        dedupStage.stop();
+        extractStage.stop();
+        summarizeStage.stop();
+        persistHandoff.shutdownNow();
+        persistStage.stop();
+    }
+
+    /**
+     * 피드 목록을 파이프라인에 넣고 모든 단계가 끝날 때까지 대기
+     */
+    public IngestionRun run(List<RssFeedConfig.FeedInfo> feeds) throws InterruptedException {
+        return run(feeds, run -> {
+        });
+    }
+
+    /**
+     * @param onStart 실행이 만들어지면 피드를 넣기 전에 호출 (진행 상황 조회용)
+     */
+    public IngestionRun run(List<RssFeedConfig.FeedInfo> feeds, Consumer<IngestionRun> onStart)
+            throws InterruptedException {
+        IngestionRun run = new IngestionRun(postsWriter.startRun(), feeds.size());
+        onStart.accept(run);
+        log.info("뉴스 수집 파이프라인 시작: 피드 {}개 (run={})", feeds.size(), run.getId());
+
+        for (RssFeedConfig.FeedInfo feedInfo : feeds) {
+            fetchStage.submit(new FeedTask(run, feedInfo));
+        }
+        try {
+            run.await();
+        } finally {
+            // 끝나지 못한 작업은 임대 연장을 멈춰 만료 후 다시 처리되게 한다
+            summaryTaskQueue.release(run.getClaimedTasks());
+        }
+
+        postsWriter.finishRun(run.getDbMeter());
+        log.info("뉴스 수집 파이프라인 완료: 신규 {}, 요약 {}, 단계별 {} (run={})",
+                run.getNewPosts().get(), run.getSummarized().get(), run.stageCounts(), run.getId());
+        return run;
+    }
+
+    /**
+     * 작업 큐에서 다시 가져온 기사(재시도 또는 임대 만료)를 본문 추출 단계부터 처리하고 끝날 때까지 대기
+     */
+    public IngestionRun resume(List<ClaimedTask> tasks) throws InterruptedException {
+        Map<Long, Posts> posts = new HashMap<>();
+        postsRepository.findAllById(tasks.stream().map(ClaimedTask::postId).toList())
+                .forEach(post -> posts.put(post.getId(), post));
+
+        List<NewArticle> articles = new ArrayList<>();
+        List<ClaimedTask> orphanTasks = new ArrayList<>();
+        IngestionRun run = new IngestionRun(postsWriter.startRun(), 0, posts.size());
+        run.addClaimedTasks(tasks);
+        for (ClaimedTask task : tasks) {
+            Posts post = posts.remove(task.postId());
+            if (post == null) {
+                // 기사가 삭제된 작업은 할 일이 없으므로 완료 처리
+                orphanTasks.add(task);
+                continue;
+            }
+            articles.add(new NewArticle(run, post, task));
+        }
+        if (!orphanTasks.isEmpty()) {
+            summaryTaskQueue.complete(orphanTasks);
+        }
+
+        log.info("요약 작업 {}건 재처리 시작 (run={})", articles.size(), run.getId());
+        try {
+            for (NewArticle article : articles) {
+                extractStage.submit(article);
+            }
+            run.await();
+        } finally {
+            summaryTaskQueue.release(run.getClaimedTasks());
+        }
+
+        postsWriter.finishRun(run.getDbMeter());
+        log.info("요약 작업 재처리 완료: 요약 {}, 단계별 {} (run={})",
+                run.getSummarized().get(), run.stageCounts(), run.getId());
+        return run;
+    }
+
+    /**
+     * 피드 수집 단계
+     */
+    private void fetch(List<FeedTask> tasks) throws InterruptedException {
+        for (FeedTask task : tasks) {
+            RssFeedConfig.FeedInfo feedInfo = task.feedInfo();
+            List<PostsRequestDto> posts;
+            try {
+                posts = rssFeedService.fetchFeed(feedInfo);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (FeedHealthRegistry.FeedCircuitOpenException e) {
+                // 차단된 피드는 재시도 시각까지 수집 대상에서 뺀다
+                log.debug("[{}] {} 건너뜀: {}", feedInfo.getSource(), feedInfo.getCategory(), e.getMessage());
+                feedPollingPolicy.deferUntil(feedInfo.getFeedId(), e.getRetryAt());
+                continue;
+            } catch (Exception e) {
+                log.error("[{}] {} 수집 실패: {}", feedInfo.getSource(), feedInfo.getCategory(), e.getMessage());
+                feedPollingPolicy.recordFailure(feedInfo.getFeedId());
+                task.run().countFailure(STAGE_FETCH);
+                continue;
+            }
+
+            task.run().enter(1);
+            dedupStage.submit(new FeedBatch(task.run(), feedInfo, posts));
+        }
+    }
+
+    /**
+     * 중복 제거 단계 - 여러 피드의 기사를 한 번에 저장하고 신규 기사만 다음 단계로 넘긴다
+     */
+    private void dedup(List<FeedBatch> batches) throws InterruptedException {
+        for (Map.Entry<IngestionRun, List<FeedBatch>> entry : groupByRun(batches, FeedBatch::run).entrySet()) {
+            IngestionRun run = entry.getKey();
+
+            List<PostsRequestDto> posts = new ArrayList<>();
+            entry.getValue().forEach(batch -> posts.addAll(batch.posts()));
+            List<PostsWriter.QueuedPost> inserted =
+                    posts.isEmpty() ? List.of() : postsWriter.insertNew(posts, run.getDbMeter());
+
+            // 피드별 신규 기사 수를 수집 주기에 반영
+            Set<Long> insertedHashes = new HashSet<>();
+            inserted.forEach(queued -> insertedHashes.add(queued.post().getUrlHash()));
+            for (FeedBatch batch : entry.getValue()) {
+                int newCount = 0;
+                for (PostsRequestDto dto : batch.posts()) {
+                    if (insertedHashes.remove(UrlFingerprint.of(dto.getUrl()))) {
+                        newCount++;
+                    }
+                }
+                feedPollingPolicy.recordPoll(batch.feedInfo().getFeedId(), newCount);
+                // 저장이 끝났으므로 다음 수집부터 이 기사들을 건너뛴다
+                rssFeedService.commitFeed(batch.feedInfo());
+            }
+
+            run.addNewPosts(inserted.size());
+            // 다른 기사의 클러스터에 합류한 기사는 대표 기사의 요약을 공유하므로 요약하지 않는다
+            List<PostsWriter.QueuedPost> toSummarize = inserted.stream()
+                    .filter(queued -> queued.task() != null)
+                    .toList();
+            run.addClaimedTasks(toSummarize.stream().map(PostsWriter.QueuedPost::task).toList());
+            run.enter(toSummarize.size());
+            for (PostsWriter.QueuedPost queued : toSummarize) {
+                extractStage.submit(new NewArticle(run, queued.post(), queued.task()));
+            }
+        }
+    }
+
+    /**
+     * 본문 추출 단계
+     */
+    private void extract(List<NewArticle> articles) throws InterruptedException {
+        for (NewArticle article : articles) {
+            String content = articleExtractor.extract(article.post().getUrl());
+            if (ArticleExtractor.isFailure(content)) {
+                article.run().countFailure(STAGE_EXTRACT);
+            }
+
+            // 추출에 실패해도 요약 단계에서 URL만으로 처리
+            article.run().enter(1);
+            summarizeStage.submit(new ExtractedArticle(article.run(), article.post(), article.task(), content));
+        }
+    }
+
+    /**
+     * 요약 단계 - LLM 호출을 SummarizationExecutor에 넘기고 바로 다음 기사로 넘어간다
+     * 호출 결과는 끝나는 순서대로 onSummarized에서 처리된다.
+     */
+    private void summarize(List<ExtractedArticle> articles) throws InterruptedException {
+        for (ExtractedArticle article : articles) {
+            Posts post = article.post();
+            // 진행 중인 LLM 호출도 실행이 끝나지 않은 작업으로 센다
+            article.run().enter(1);
+            try {
+                String provider = newsSummarizer.selectProvider();
+                summarizationExecutor.submit(provider, () -> newsSummarizer
+                        .summarizeAsync(provider, post.getUrl(), post.getTitle(), article.content())
+                        .thenApply(summary -> {
+                            if (!NewsSummarizer.isValidSummary(summary.text())) {
+                                throw new IllegalStateException(summary.text());
+                            }
+                            return summary;
+                        }))
+                        .whenComplete((summary, error) -> onSummarized(article, summary, error));
+            } catch (InterruptedException | RuntimeException e) {
+                article.run().leave(STAGE_LLM, false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * LLM 호출 결과 처리 (LlmHttpClient 응답 처리 스레드, 캐시 적중 시 요약 단계 워커에서 실행)
+     * 응답 처리 스레드는 모든 LLM 호출이 공유하므로 DB 작업(실패 처리, 요약 / 캐시 저장)은 저장 단계 쪽 스레드에 넘긴다.
+     * 어떤 예외가 나도 LLM 호출 작업은 정확히 한 번 끝낸다 (남으면 수집 실행이 끝나지 않아 다음 수집이 모두 막힘).
+     */
+    private void onSummarized(ExtractedArticle article, NewsSummarizer.Summary summary, Throwable error) {
+        Posts post = article.post();
+        boolean success = false;
+        try {
+            if (error != null) {
+                // 요약 실패 시 원본 내용(RSS description)을 유지하고 나중에 재시도
+                String reason = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause().getMessage() : error.getMessage();
+                log.warn("뉴스 요약 실패, 원본 내용 유지: {} ({})", post.getTitle(), reason);
+                // 종료 중이라 넘기지 못하면 임대가 만료된 뒤 다시 처리된다
+                persistHandoff.execute(() -> summaryTaskQueue.fail(article.task(), reason));
+                return;
+            }
+
+            log.info("뉴스 요약 성공: {}", post.getTitle());
+            sendToPersist(new SummarizedArticle(article.run(), post, article.task(), summary));
+            success = true;
+        } catch (RuntimeException e) {
+            // 저장하지 못한 작업은 임대가 만료된 뒤 다시 처리된다
+            log.error("요약 결과 처리 중 오류 발생: {} ({})", post.getTitle(), e.getMessage(), e);
+        } finally {
+            article.run().leave(STAGE_LLM, success);
+        }
+    }
+
+    /**
+     * 요약 결과를 저장 단계로 넘김. 넘기지 못하면 저장 단계 작업을 바로 끝낸다.
+     * 응답 처리 스레드는 대기하지 않는다: 큐가 가득 차 있으면 전용 스레드가 자리가 날 때까지 기다렸다가 넣는다.
+     */
+    private void sendToPersist(SummarizedArticle summarized) {
+        summarized.run().enter(1);
+        try {
+            if (!persistStage.offer(summarized)) {
+                persistHandoff.execute(() -> handOffToPersist(summarized));
+            }
+        } catch (RuntimeException e) {
+            // 종료 중(RejectedExecutionException) 등. 저장 단계에 넣지 못한 작업은 임대가 만료된 뒤 다시 처리된다
+            summarized.run().leave(STAGE_PERSIST, false);
+            throw e;
+        }
+    }
+
+    private void handOffToPersist(SummarizedArticle article) {
+        try {
+            persistStage.submit(article);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 저장 단계에 넣지 못한 작업은 임대가 만료된 뒤 다시 처리된다
+            article.run().leave(STAGE_PERSIST, false);
+        }
+    }
+
+    /**
+     * 요약 저장 단계 - 모인 요약 반영과 작업 완료 처리를 한 트랜잭션으로 수행하고, 새로 만든 요약은 캐시에 저장
+     * 저장에 실패한 작업은 임대가 만료된 뒤 다시 처리된다.
+     */
+    private void persist(List<SummarizedArticle> articles) {
+        groupByRun(articles, SummarizedArticle::run).forEach((run, group) -> {
+            Map<Long, String> summaries = new LinkedHashMap<>();
+            List<ClaimedTask> tasks = new ArrayList<>(group.size());
+            group.forEach(article -> {
+                summaries.put(article.post().getId(), article.summary().text());
+                tasks.add(article.task());
+            });
+            postsWriter.saveSummaries(summaries, tasks, run.getDbMeter());
+            run.addSummarized(summaries.size());
+            group.forEach(article -> newsSummarizer.saveToCache(article.summary()));
+        });
+    }
+
+    private static <T> Map<IngestionRun, List<T>> groupByRun(List<T> items, Function<T, IngestionRun> runOf) {
+        Map<IngestionRun, List<T>> grouped = new LinkedHashMap<>();
+        for (T item : items) {
+            grouped.computeIfAbsent(runOf.apply(item), k -> new ArrayList<>()).add(item);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,123 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수집 파이프라인 1회 실행의 진행 상태
+ * 파이프라인에 남아 있는 작업 수를 세어 0이 되면 완료로 본다.
+ * 다음 단계로 작업을 넘길 때는 현재 작업을 끝내기(leave) 전에 enter를 먼저 호출해야 한다.
+ */
+@Getter
+public class IngestionRun {
+
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final PostsWriter.RunMeter dbMeter;
+    private final int feedCount;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger newPosts = new AtomicInteger();
+    private final AtomicInteger summarized = new AtomicInteger();
+    private final Map<String, AtomicInteger> processed = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> failed = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    // 이 실행에서 처리하는 요약 작업 (실행이 끝나면 임대 연장을 멈춘다)
+    private final Queue<ClaimedTask> claimedTasks = new ConcurrentLinkedQueue<>();
+
+    public IngestionRun(PostsWriter.RunMeter dbMeter, int feedCount) {
+        this(dbMeter, feedCount, 0);
+    }
+
+    /**
+     * @param articleCount 피드 수집 없이 본문 추출 단계부터 시작하는 기사 수 (작업 큐에서 다시 가져온 기사)
+     */
+    public IngestionRun(PostsWriter.RunMeter dbMeter, int feedCount, int articleCount) {
+        this.dbMeter = dbMeter;
+        this.feedCount = feedCount;
+        this.pending.set(feedCount + articleCount);
+        if (feedCount + articleCount == 0) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * 파이프라인에 새 작업이 들어감
+     */
+    public void enter(int count) {
+        pending.addAndGet(count);
+    }
+
+    /**
+     * 한 단계에서 작업 하나가 끝남
+     */
+    public void leave(String stage, boolean success) {
+        (success ? processed : failed).computeIfAbsent(stage, k -> new AtomicInteger()).incrementAndGet();
+        if (pending.decrementAndGet() == 0) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * 예외 없이 처리되었지만 결과가 실패인 작업 (예: 요약 실패)
+     */
+    public void countFailure(String stage) {
+        failed.computeIfAbsent(stage, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void addClaimedTasks(Collection<ClaimedTask> tasks) {
+        claimedTasks.addAll(tasks);
+    }
+
+    public List<ClaimedTask> getClaimedTasks() {
+        return List.copyOf(claimedTasks);
+    }
+
+    public void addNewPosts(int count) {
+        newPosts.addAndGet(count);
+    }
+
+    public void addSummarized(int count) {
+        summarized.addAndGet(count);
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * 파이프라인의 모든 작업이 끝날 때까지 대기
+     */
+    public void await() throws InterruptedException {
+        try {
+            completion.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 단계별 처리/실패 건수 스냅샷
+     */
+    public Map<String, Map<String, Integer>> stageCounts() {
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        processed.forEach((stage, count) ->
+                counts.computeIfAbsent(stage, k -> new LinkedHashMap<>()).put("processed", count.get()));
+        failed.forEach((stage, count) ->
+                counts.computeIfAbsent(stage, k -> new LinkedHashMap<>()).put("failed", count.get()));
+        return counts;
+    }
+}
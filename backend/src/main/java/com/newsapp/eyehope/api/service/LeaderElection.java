@@ -0,0 +1,249 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.LeaderElectionConfig;
+import com.newsapp.eyehope.api.config.NodeConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 작업별 리더 선출
+ * 작업마다 Postgres 세션 advisory lock을 하나씩 두고, 락을 잡은 노드만 해당 작업을 실행한다.
+ * 락은 전용 커넥션에 묶여 있으므로 노드가 죽거나 커넥션이 끊기면 DB가 락을 풀어 다른 노드가 이어받는다.
+ * 주기적으로 락 보유 여부를 확인(갱신)하며, 확인이 lease 시간 이상 실패하면 스스로 리더를 내려놓는다.
+ */
+@Slf4j
+@Component
+public class LeaderElection {
+
+    public static final String TASK_NEWS_COLLECTION = "news-collection";
+    public static final String TASK_URL_HASH_BACKFILL = "url-hash-backfill";
+
+    private static final List<String> TASKS = List.of(TASK_NEWS_COLLECTION, TASK_URL_HASH_BACKFILL);
+
+    private static final String HOLDS_LOCK_SQL =
+            "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND granted " +
+            "AND pid = pg_backend_pid() AND objsubid = 1 AND classid::bigint = ? AND objid::bigint = ?";
+
+    /**
+     * 작업별 리더 상태 (actuator 응답용)
+     */
+    @Getter
+    @Builder
+    public static class Leadership {
+        private final String task;
+        private final boolean leader;
+        private final LocalDateTime leaderSince;
+        private final LocalDateTime lastRenewedAt;
+    }
+
+    private static class TaskLock {
+        private final String task;
+        private final long key;
+        private volatile boolean held;
+        private volatile LocalDateTime leaderSince;
+        private volatile long lastRenewedNanos;
+        private volatile LocalDateTime lastRenewedAt;
+
+        private TaskLock(String task) {
+            this.task = task;
+            this.key = lockKey(task);
+        }
+    }
+
+    private final DataSource dataSource;
+    private final LeaderElectionConfig config;
+    private final String nodeId;
+    private final Map<String, TaskLock> locks = new LinkedHashMap<>();
+
+    // advisory lock을 보유하는 전용 커넥션 (풀에서 하나를 계속 점유)
+    private Connection connection;
+
+    public LeaderElection(DataSource dataSource, LeaderElectionConfig config, NodeConfig nodeConfig,
+                          MeterRegistry registry) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.nodeId = nodeConfig.getNodeId();
+
+        for (String task : TASKS) {
+            TaskLock lock = new TaskLock(task);
+            locks.put(task, lock);
+            Gauge.builder("scheduler.leader", this, election -> election.isLeader(task) ? 1 : 0)
+                    .tag("task", task)
+                    .description("이 노드가 스케줄 작업의 리더인지 여부 (1: 리더)")
+                    .register(registry);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 노드가 작업을 실행해도 되는지 여부
+     * 마지막 락 확인이 lease 시간 안에 성공했어야 리더로 본다.
+     */
+    public boolean isLeader(String task) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        TaskLock lock = locks.get(task);
+        if (lock == null || !lock.held) {
+            return false;
+        }
+        return System.nanoTime() - lock.lastRenewedNanos < config.getLeaseMs() * 1_000_000L;
+    }
+
+    /**
+     * 락 보유 확인 및 획득 시도
+     * 리더는 락이 아직 자기 세션에 있는지 확인하고, 리더가 아닌 작업은 락 획득을 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${news.leader.renew-ms:15000}")
+    public synchronized void renew() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            ensureConnection();
+            for (TaskLock lock : locks.values()) {
+                if (lock.held) {
+                    confirm(lock);
+                } else {
+                    tryAcquire(lock);
+                }
+            }
+        } catch (SQLException e) {
+            // 커넥션이 끊기면 DB 쪽 락도 풀리므로 모두 내려놓고 다음 주기에 다시 시도
+            log.warn("리더 락 확인 실패, 리더 상태 해제: {}", e.getMessage());
+            locks.values().forEach(lock -> release(lock, "커넥션 오류"));
+            closeConnection();
+        }
+    }
+
+    public List<Leadership> snapshot() {
+        List<Leadership> result = new ArrayList<>();
+        for (TaskLock lock : locks.values()) {
+            result.add(Leadership.builder()
+                    .task(lock.task)
+                    .leader(isLeader(lock.task))
+                    .leaderSince(lock.leaderSince)
+                    .lastRenewedAt(lock.lastRenewedAt)
+                    .build());
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock_all()");
+        } catch (SQLException e) {
+            log.debug("리더 락 해제 실패: {}", e.getMessage());
+        }
+        locks.values().forEach(lock -> release(lock, "종료"));
+        closeConnection();
+    }
+
+    private void tryAcquire(TaskLock lock) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, lock.key);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    lock.held = true;
+                    lock.leaderSince = LocalDateTime.now();
+                    markRenewed(lock);
+                    log.info("스케줄 작업 리더 획득: {} (node={})", lock.task, nodeId);
+                }
+            }
+        }
+    }
+
+    private void confirm(TaskLock lock) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(HOLDS_LOCK_SQL)) {
+            statement.setLong(1, lock.key >>> 32);
+            statement.setLong(2, lock.key & 0xFFFFFFFFL);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next() && rs.getLong(1) > 0) {
+                    markRenewed(lock);
+                } else {
+                    release(lock, "락 없음");
+                }
+            }
+        }
+    }
+
+    private void markRenewed(TaskLock lock) {
+        lock.lastRenewedNanos = System.nanoTime();
+        lock.lastRenewedAt = LocalDateTime.now();
+    }
+
+    private void release(TaskLock lock, String reason) {
+        if (lock.held) {
+            log.warn("스케줄 작업 리더 해제: {} ({})", lock.task, reason);
+        }
+        lock.held = false;
+        lock.leaderSince = null;
+    }
+
+    private void ensureConnection() throws SQLException {
+        if (connection != null && connection.isValid(5)) {
+            return;
+        }
+        if (connection != null) {
+            // 유효하지 않은 커넥션의 락은 이미 풀렸다고 본다
+            locks.values().forEach(lock -> release(lock, "커넥션 교체"));
+            closeConnection();
+        }
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(true);
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("리더 락 커넥션 종료 실패: {}", e.getMessage());
+        }
+        connection = null;
+    }
+
+    /**
+     * 작업 이름의 SHA-256 앞 8바이트를 advisory lock 키로 사용
+     */
+    private static long lockKey(String task) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(("eyehope:scheduler:" + task).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
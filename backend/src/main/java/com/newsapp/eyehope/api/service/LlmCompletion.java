@@ -0,0 +1,15 @@
+package com.newsapp.eyehope.api.service;
+
+/**
+ * LLM 생성 결과
+ * @param provider 응답한 제공자
+ * @param model 응답한 모델
+ * @param promptTokens 입력 토큰 수 (응답에 사용량이 없으면 0)
+ * @param completionTokens 출력 토큰 수 (응답에 사용량이 없으면 0)
+ */
+public record LlmCompletion(String provider, String model, String text, int promptTokens, int completionTokens) {
+
+    public int totalTokens() {
+        return promptTokens + completionTokens;
+    }
+}
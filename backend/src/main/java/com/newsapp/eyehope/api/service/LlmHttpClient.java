@@ -0,0 +1,116 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.LlmHttpConfig;
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LLM API 호출용 공유 비동기 HTTP 클라이언트
+ * 하나의 JDK HttpClient로 커넥션을 재사용(keep-alive, HTTPS는 HTTP/2 다중화)하며,
+ * 응답을 기다리는 동안 스레드를 점유하지 않으므로 많은 요약을 동시에 진행할 수 있다.
+ * 결과 future는 HttpClient 스레드가 아닌 별도 응답 처리 스레드에서 완료되므로
+ * 이어지는 작업(캐시 저장, 다음 단계 전달)이 블록되어도 HTTP 처리에는 영향이 없다.
+ */
+@Slf4j
+@Component
+public class LlmHttpClient {
+
+    private final LlmHttpConfig config;
+    private final ExecutorService ioExecutor;
+    private final ExecutorService callbackExecutor;
+    private final HttpClient httpClient;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LlmHttpClient(LlmHttpConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.ioExecutor = Executors.newFixedThreadPool(config.getIoThreads(), daemonThreads("llm-http-io"));
+        this.callbackExecutor = Executors.newFixedThreadPool(config.getCallbackThreads(), daemonThreads("llm-http-callback"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .executor(ioExecutor)
+                .build();
+
+        Gauge.builder("llm.http.inflight", inFlight, AtomicInteger::get)
+                .description("응답을 기다리는 LLM API 요청 수")
+                .register(registry);
+    }
+
+    /**
+     * JSON POST 요청
+     * @return 2xx 응답 본문. 오류 응답, 연결 실패, 타임아웃은 LlmProviderException으로 완료된다.
+     */
+    public CompletableFuture<String> postJson(String provider, String url, Map<String, String> headers, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        headers.forEach(request::header);
+
+        inFlight.incrementAndGet();
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .handleAsync((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (error != null) {
+                        throw LlmProviderException.from(provider, error);
+                    }
+                    int status = response.statusCode();
+                    if (status / 100 != 2) {
+                        throw new LlmProviderException(provider, status, status + " " + response.body(),
+                                retryAfterSeconds(response), null);
+                    }
+                    return response.body();
+                }, callbackExecutor);
+    }
+
+    /**
+     * 응답 처리 스레드 (지연 재시도 등 이어지는 작업용)
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbackExecutor.shutdownNow();
+        ioExecutor.shutdownNow();
+    }
+
+    private static Long retryAfterSeconds(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After").map(value -> {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                // HTTP 날짜 형식은 사용하지 않음 (기본 대기 시간 적용)
+                return null;
+            }
+        }).orElse(null);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,316 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+import com.newsapp.eyehope.api.exception.LlmRateLimitTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 요청마다 LLM 제공자를 고르는 라우터
+ * 제공자별 응답 시간 EWMA, 오류율 EWMA, 남은 하루 한도로 점수를 매겨 가장 좋은 원격 제공자를 고르고,
+ * 호출이 실패하면 다음 제공자로 자동으로 넘긴다.
+ * 원격 제공자가 모두 느리거나 동시 호출이 가득 차면 로컬 LLM이 넘치는 요청을 받는다.
+ */
+@Slf4j
+@Component
+public class LlmProviderRouter {
+
+    // 응답 시간 표본이 없을 때 가정하는 값
+    private static final double INITIAL_LATENCY_MS = 5000;
+
+    /**
+     * 제공자별 실시간 통계
+     */
+    private class ProviderState {
+        private final SummarizationProvider provider;
+        private final Timer successTimer;
+        private final Timer failureTimer;
+
+        private double latencyMs = Double.NaN;
+        private double errorRate;
+        private long lastAttemptMillis;
+        private long cooldownUntilMillis;
+        private LocalDate quotaDay = LocalDate.now();
+        private int usedToday;
+
+        private ProviderState(SummarizationProvider provider) {
+            this.provider = provider;
+            String name = provider.getName();
+            this.successTimer = latencyTimer(name, "success");
+            this.failureTimer = latencyTimer(name, "failure");
+
+            Gauge.builder("llm.provider.latency.ewma", this, ProviderState::latency)
+                    .tag("provider", name)
+                    .description("제공자별 응답 시간 EWMA (라우팅 기준)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("llm.provider.error.rate", this, ProviderState::errorRate)
+                    .tag("provider", name)
+                    .description("제공자별 오류율 EWMA")
+                    .register(registry);
+            Gauge.builder("llm.provider.quota.remaining", this, ProviderState::remainingQuota)
+                    .tag("provider", name)
+                    .description("제공자별 남은 하루 요청 한도 (한도가 없으면 -1)")
+                    .register(registry);
+        }
+
+        private String name() {
+            return provider.getName();
+        }
+
+        private synchronized double latency() {
+            return Double.isNaN(latencyMs) ? INITIAL_LATENCY_MS : latencyMs;
+        }
+
+        private synchronized double errorRate() {
+            return errorRate;
+        }
+
+        private synchronized int remainingQuota() {
+            int quota = config.getDailyQuota(name());
+            if (quota == 0) {
+                return -1;
+            }
+            rollQuotaDay();
+            return Math.max(0, quota - usedToday);
+        }
+
+        /**
+         * 지금 요청을 보낼 수 있는지 (쉬는 중, 한도 소진, 오류율 초과면 false. 오류율 초과는 probe 간격마다 한 번 허용)
+         */
+        private synchronized boolean isAvailable(long now) {
+            if (now < cooldownUntilMillis || remainingQuota() == 0) {
+                return false;
+            }
+            return errorRate < config.getMaxErrorRate() || now - lastAttemptMillis >= config.getProbeIntervalMs();
+        }
+
+        /**
+         * 낮을수록 좋음. 오류율이 높거나 남은 한도가 적을수록 불리하다.
+         */
+        private synchronized double score() {
+            int quota = config.getDailyQuota(name());
+            double remainingRatio = quota == 0 ? 1.0 : (double) remainingQuota() / quota;
+            return latency() * (1 + 4 * errorRate) / Math.max(0.1, remainingRatio);
+        }
+
+        private synchronized void recordAttempt() {
+            lastAttemptMillis = System.currentTimeMillis();
+            rollQuotaDay();
+            usedToday++;
+        }
+
+        private synchronized void recordSuccess(long elapsedMs) {
+            double alpha = config.getSmoothing();
+            latencyMs = Double.isNaN(latencyMs) ? elapsedMs : alpha * elapsedMs + (1 - alpha) * latencyMs;
+            errorRate = (1 - alpha) * errorRate;
+            successTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void recordFailure(long elapsedMs, LlmProviderException e) {
+            double alpha = config.getSmoothing();
+            errorRate = alpha + (1 - alpha) * errorRate;
+            if (e.isRateLimited()) {
+                long seconds = e.getRetryAfterSeconds() != null
+                        ? e.getRetryAfterSeconds() : config.getRateLimitCooldownSeconds();
+                cooldownUntilMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds);
+            }
+            failureTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * 호출 한도 대기 시간 초과로 요청을 보내지 못함. 오류율에 반영하지 않고 하루 요청 수도 되돌린다.
+         */
+        private synchronized void recordNotSent() {
+            rollQuotaDay();
+            usedToday = Math.max(0, usedToday - 1);
+        }
+
+        private void rollQuotaDay() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(quotaDay)) {
+                quotaDay = today;
+                usedToday = 0;
+            }
+        }
+    }
+
+    private final SummarizationConfig config;
+    private final SummarizationExecutor summarizationExecutor;
+    private final MeterRegistry registry;
+    private final Map<String, ProviderState> remotes = new LinkedHashMap<>();
+    private final ProviderState local;
+
+    public LlmProviderRouter(List<SummarizationProvider> providers, SummarizationConfig config,
+                             SummarizationExecutor summarizationExecutor, MeterRegistry registry) {
+        this.config = config;
+        this.summarizationExecutor = summarizationExecutor;
+        this.registry = registry;
+
+        Map<String, SummarizationProvider> byName = new LinkedHashMap<>();
+        providers.forEach(provider -> byName.put(provider.getName(), provider));
+        for (String name : config.getRoutingProviders()) {
+            SummarizationProvider provider = byName.get(name);
+            if (provider == null) {
+                log.warn("알 수 없는 요약 제공자 무시: {}", name);
+                continue;
+            }
+            remotes.put(name, new ProviderState(provider));
+        }
+        SummarizationProvider localProvider = byName.get(SummarizationConfig.PROVIDER_LOCAL);
+        this.local = config.isLocalOverflow() && localProvider != null ? new ProviderState(localProvider) : null;
+        if (remotes.isEmpty() && local == null) {
+            throw new IllegalStateException("요약에 사용할 LLM 제공자가 없습니다: " + config.getRoutingProviders());
+        }
+        log.info("요약 제공자: {} (로컬 LLM 넘침 처리: {})", remotes.keySet(), local != null);
+    }
+
+    /**
+     * 다음 요약을 보낼 제공자 선택 (SummarizationExecutor 레인 이름으로 사용)
+     * 점수가 가장 좋은 원격 제공자 중 동시 호출 자리가 있는 곳을 고르고,
+     * 원격 제공자가 모두 느리거나 가득 찼으면 로컬 LLM을, 그마저 가득 찼으면 가장 좋은 원격 제공자를 고른다.
+     */
+    public String selectProvider() {
+        List<ProviderState> ranked = rankedRemotes();
+        if (!ranked.isEmpty()) {
+            ProviderState best = ranked.get(0);
+            boolean slow = best.latency() > config.getOverflowLatencyMs();
+            if (!slow) {
+                for (ProviderState state : ranked) {
+                    if (summarizationExecutor.getAvailablePermits(state.name()) > 0) {
+                        return decide(state, "primary");
+                    }
+                }
+            }
+            if (isLocalAvailable() && summarizationExecutor.getAvailablePermits(local.name()) > 0) {
+                return decide(local, "overflow");
+            }
+            return decide(best, slow ? "primary" : "saturated");
+        }
+        if (isLocalAvailable()) {
+            return decide(local, "overflow");
+        }
+        // 모두 사용할 수 없으면 가장 앞의 제공자로 보내 실패/재시도에 맡긴다
+        ProviderState fallback = remotes.isEmpty() ? local : remotes.values().iterator().next();
+        return decide(fallback, "unavailable");
+    }
+
+    public String getModel(String provider) {
+        ProviderState state = stateOf(provider);
+        return state != null ? state.provider.getModel() : null;
+    }
+
+    /**
+     * 선택한 제공자로 호출하고, 실패하면 사용 가능한 다른 제공자로 넘김 (점수 순, 로컬 LLM은 마지막)
+     * @return 생성 결과. 모든 제공자가 실패하면 마지막 오류(LlmProviderException)로 완료된다.
+     */
+    public CompletableFuture<LlmCompletion> completeAsync(String provider, String prompt) {
+        List<ProviderState> order = new ArrayList<>();
+        ProviderState preferred = stateOf(provider);
+        if (preferred != null) {
+            order.add(preferred);
+        }
+        for (ProviderState state : rankedRemotes()) {
+            if (state != preferred) {
+                order.add(state);
+            }
+        }
+        if (isLocalAvailable() && local != preferred) {
+            order.add(local);
+        }
+        if (order.isEmpty()) {
+            return CompletableFuture.failedFuture(
+                    new LlmProviderException(provider, 0, "사용 가능한 LLM 제공자가 없습니다", null, null));
+        }
+        return attempt(order, 0, prompt);
+    }
+
+    private CompletableFuture<LlmCompletion> attempt(List<ProviderState> order, int index, String prompt) {
+        ProviderState state = order.get(index);
+        if (index > 0) {
+            countDecision(state.name(), "failover");
+        }
+        state.recordAttempt();
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<LlmCompletion> call;
+        try {
+            call = state.provider.completeAsync(prompt);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.handle((completion, error) -> {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            if (error == null) {
+                state.recordSuccess(elapsedMs);
+                return CompletableFuture.completedFuture(completion);
+            }
+            LlmProviderException e = LlmProviderException.from(state.name(), error);
+            if (e instanceof LlmRateLimitTimeoutException) {
+                state.recordNotSent();
+            } else {
+                state.recordFailure(elapsedMs, e);
+            }
+            boolean hasNext = index + 1 < order.size();
+            log.warn("LLM 제공자 호출 실패{}: {}", hasNext ? ", 다음 제공자로 넘김" : "", e.getMessage());
+            return hasNext ? attempt(order, index + 1, prompt) : CompletableFuture.<LlmCompletion>failedFuture(e);
+        }).thenCompose(Function.identity());
+    }
+
+    private List<ProviderState> rankedRemotes() {
+        long now = System.currentTimeMillis();
+        return remotes.values().stream()
+                .filter(state -> state.isAvailable(now))
+                .sorted(Comparator.comparingDouble(ProviderState::score))
+                .toList();
+    }
+
+    private boolean isLocalAvailable() {
+        return local != null && local.isAvailable(System.currentTimeMillis());
+    }
+
+    private ProviderState stateOf(String provider) {
+        if (local != null && local.name().equals(provider)) {
+            return local;
+        }
+        return remotes.get(provider);
+    }
+
+    private String decide(ProviderState state, String reason) {
+        countDecision(state.name(), reason);
+        return state.name();
+    }
+
+    private void countDecision(String provider, String reason) {
+        Counter.builder("llm.route.decision")
+                .description("LLM 제공자 라우팅 결정 (primary, overflow, saturated, unavailable, failover)")
+                .tag("provider", provider)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    private Timer latencyTimer(String provider, String result) {
+        return Timer.builder("llm.provider.latency")
+                .description("제공자별 LLM 호출 시간")
+                .tag("provider", provider)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
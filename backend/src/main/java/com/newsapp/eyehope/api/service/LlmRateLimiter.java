@@ -0,0 +1,321 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.LlmRateLimitConfig;
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+import com.newsapp.eyehope.api.exception.LlmRateLimitTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * LLM 제공자별 호출 한도
+ * 분당 요청 수와 분당 토큰 수를 토큰 버킷으로 지키고, 동시 호출 수는 AIMD로 조절한다.
+ * 429나 모델 과부하 응답을 받으면 동시 호출 한도를 줄이고 Retry-After(없으면 backoff-ms) 동안 새 요청을 멈추며,
+ * 성공할 때마다 한도를 조금씩 늘려 news.summarize.concurrency까지 회복한다.
+ * 대기는 future로 처리하므로 한도를 기다리는 동안 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class LlmRateLimiter {
+
+    /**
+     * 호출 허가. 호출이 끝나면 반드시 release해야 한다.
+     */
+    public final class Permit {
+        private final ProviderLimiter limiter;
+        private final int reservedTokens;
+        private boolean released;
+
+        private Permit(ProviderLimiter limiter, int reservedTokens) {
+            this.limiter = limiter;
+            this.reservedTokens = reservedTokens;
+        }
+
+        /**
+         * 호출 결과로 정산 (토큰 사용량 반영, 동시 호출 한도 조절)
+         * @param completion 성공 시 결과 (실패면 null)
+         * @param error 실패 원인 (성공이면 null)
+         */
+        public void release(LlmCompletion completion, Throwable error) {
+            synchronized (limiter) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            if (error == null) {
+                int usedTokens = completion != null && completion.totalTokens() > 0
+                        ? completion.totalTokens() : reservedTokens;
+                limiter.onSuccess(reservedTokens, usedTokens);
+            } else {
+                LlmProviderException e = LlmProviderException.from(limiter.name, error);
+                boolean throttled = e.isRateLimited() || e.isOverloaded();
+                if (!throttled && e.isNotDelivered()) {
+                    // 연결 거부 등으로 요청이 제공자에 닿지 않았으면 사용한 한도를 되돌림
+                    limiter.onCancel(reservedTokens);
+                } else {
+                    limiter.onFailure(throttled, e.getRetryAfterSeconds());
+                }
+            }
+            drain(limiter);
+        }
+    }
+
+    private record Waiter(CompletableFuture<Permit> future, int tokens, long enqueuedNanos) {
+    }
+
+    /**
+     * 제공자별 버킷과 동시 호출 한도
+     */
+    private class ProviderLimiter {
+        private final String name;
+        private final int requestsPerMinute;
+        private final int tokensPerMinute;
+        private final int maxConcurrency;
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private final Counter throttledCounter;
+
+        private double requestBucket;
+        private double tokenBucket;
+        private long lastRefillNanos = System.nanoTime();
+        private double concurrencyLimit;
+        private int inFlight;
+        private long pausedUntilMillis;
+        private boolean wakeScheduled;
+
+        private ProviderLimiter(String name) {
+            this.name = name;
+            this.requestsPerMinute = config.getRequestsPerMinute(name);
+            this.tokensPerMinute = config.getTokensPerMinute(name);
+            this.maxConcurrency = summarizationConfig.getConcurrency(name);
+            this.requestBucket = requestsPerMinute;
+            this.tokenBucket = tokensPerMinute;
+            this.concurrencyLimit = maxConcurrency;
+
+            this.waitTimer = Timer.builder("llm.ratelimit.wait")
+                    .tag("provider", name)
+                    .description("제공자별 호출 한도 대기 시간")
+                    .register(registry);
+            this.throttledCounter = Counter.builder("llm.ratelimit.throttled")
+                    .tag("provider", name)
+                    .description("429 / 모델 과부하 응답으로 동시 호출 한도를 줄인 횟수")
+                    .register(registry);
+            registerGauge("requests", limiter -> limiter.requestsPerMinute == 0 ? -1 : limiter.requestBucket);
+            registerGauge("tokens", limiter -> limiter.tokensPerMinute == 0 ? -1 : limiter.tokenBucket);
+            registerGauge("concurrency", limiter -> Math.max(0, (int) limiter.concurrencyLimit - limiter.inFlight));
+            Gauge.builder("llm.ratelimit.concurrency.limit", this, limiter -> {
+                        synchronized (limiter) {
+                            return limiter.concurrencyLimit;
+                        }
+                    })
+                    .tag("provider", name)
+                    .description("제공자별 현재 동시 호출 한도 (AIMD)")
+                    .register(registry);
+            Gauge.builder("llm.ratelimit.waiting", this, limiter -> {
+                        synchronized (limiter) {
+                            return limiter.waiters.size();
+                        }
+                    })
+                    .tag("provider", name)
+                    .description("제공자별 호출 한도를 기다리는 요청 수")
+                    .register(registry);
+        }
+
+        private void registerGauge(String kind, ToDoubleFunction<ProviderLimiter> value) {
+            Gauge.builder("llm.ratelimit.available", this, limiter -> {
+                        synchronized (limiter) {
+                            limiter.refill(System.nanoTime());
+                            return value.applyAsDouble(limiter);
+                        }
+                    })
+                    .tag("provider", name)
+                    .tag("kind", kind)
+                    .description("제공자별 남은 호출 한도 (requests: 분당 요청, tokens: 분당 토큰, concurrency: 동시 호출, 한도 없음은 -1)")
+                    .register(registry);
+        }
+
+        private void refill(long now) {
+            double elapsedMinutes = (now - lastRefillNanos) / 60_000_000_000.0;
+            lastRefillNanos = now;
+            if (requestsPerMinute > 0) {
+                requestBucket = Math.min(requestsPerMinute, requestBucket + elapsedMinutes * requestsPerMinute);
+            }
+            if (tokensPerMinute > 0) {
+                tokenBucket = Math.min(tokensPerMinute, tokenBucket + elapsedMinutes * tokensPerMinute);
+            }
+        }
+
+        /**
+         * 맨 앞 요청을 지금 보낼 수 있으면 0, 시간이 지나야 하면 대기 시간(ms), 진행 중인 호출이 끝나야 하면 -1
+         */
+        private long waitMillisFor(Waiter waiter) {
+            long nowMillis = System.currentTimeMillis();
+            if (nowMillis < pausedUntilMillis) {
+                return pausedUntilMillis - nowMillis;
+            }
+            if (inFlight >= Math.max(1, (int) concurrencyLimit)) {
+                return -1;
+            }
+            long wait = 0;
+            if (requestsPerMinute > 0 && requestBucket < 1) {
+                wait = Math.max(wait, (long) Math.ceil((1 - requestBucket) * 60_000 / requestsPerMinute));
+            }
+            if (tokensPerMinute > 0) {
+                // 한 번에 버킷보다 큰 요청은 버킷이 가득 찼을 때 보낸다
+                double needed = Math.min(waiter.tokens(), tokensPerMinute);
+                if (tokenBucket < needed) {
+                    wait = Math.max(wait, (long) Math.ceil((needed - tokenBucket) * 60_000 / tokensPerMinute));
+                }
+            }
+            return wait;
+        }
+
+        private synchronized void onSuccess(int reservedTokens, int usedTokens) {
+            inFlight--;
+            if (tokensPerMinute > 0) {
+                tokenBucket = Math.min(tokensPerMinute, tokenBucket + reservedTokens - usedTokens);
+            }
+            // 가산 증가: 한도만큼 성공하면 1 증가
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+        }
+
+        private synchronized void onCancel(int reservedTokens) {
+            inFlight--;
+            if (requestsPerMinute > 0) {
+                requestBucket = Math.min(requestsPerMinute, requestBucket + 1);
+            }
+            if (tokensPerMinute > 0) {
+                tokenBucket = Math.min(tokensPerMinute, tokenBucket + reservedTokens);
+            }
+        }
+
+        private synchronized void onFailure(boolean throttled, Long retryAfterSeconds) {
+            inFlight--;
+            if (!throttled) {
+                return;
+            }
+            long nowMillis = System.currentTimeMillis();
+            // 같은 순간 진행 중이던 호출들이 한꺼번에 실패해도 한 번만 줄인다
+            if (nowMillis >= pausedUntilMillis) {
+                concurrencyLimit = Math.max(1, concurrencyLimit * config.getDecreaseFactor());
+                throttledCounter.increment();
+                log.warn("LLM 제공자 호출 한도 초과, 동시 호출 한도 축소: {} → {}", name, (int) concurrencyLimit);
+            }
+            long pauseMillis = retryAfterSeconds != null
+                    ? TimeUnit.SECONDS.toMillis(retryAfterSeconds) : config.getBackoffMs();
+            pausedUntilMillis = Math.max(pausedUntilMillis, nowMillis + pauseMillis);
+        }
+    }
+
+    private final LlmRateLimitConfig config;
+    private final SummarizationConfig summarizationConfig;
+    private final MeterRegistry registry;
+    private final Map<String, ProviderLimiter> limiters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "llm-ratelimit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LlmRateLimiter(LlmRateLimitConfig config, SummarizationConfig summarizationConfig, MeterRegistry registry) {
+        this.config = config;
+        this.summarizationConfig = summarizationConfig;
+        this.registry = registry;
+    }
+
+    /**
+     * 호출 허가 요청
+     * @param estimatedTokens 예상 입력 토큰 수 (예상 응답 토큰 수는 더해서 계산)
+     * @return 한도 안에서 보낼 수 있을 때 완료되는 허가. max-wait-ms 안에 받지 못하면 LlmRateLimitTimeoutException으로 완료된다.
+     */
+    public CompletableFuture<Permit> acquire(String provider, int estimatedTokens) {
+        ProviderLimiter limiter = limiters.computeIfAbsent(provider, ProviderLimiter::new);
+        CompletableFuture<Permit> future = new CompletableFuture<>();
+        synchronized (limiter) {
+            limiter.waiters.add(new Waiter(future, estimatedTokens + config.getExpectedCompletionTokens(), System.nanoTime()));
+        }
+        drain(limiter);
+
+        return future.orTimeout(config.getMaxWaitMs(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(error -> CompletableFuture.failedFuture(
+                        new LlmRateLimitTimeoutException(provider, config.getMaxWaitMs(), error)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 보낼 수 있는 요청에 허가를 주고, 시간이 지나야 하면 그때 다시 확인하도록 예약
+     */
+    private void drain(ProviderLimiter limiter) {
+        List<Waiter> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        synchronized (limiter) {
+            long now = System.nanoTime();
+            limiter.refill(now);
+            long wait = 0;
+            while (!limiter.waiters.isEmpty()) {
+                Waiter waiter = limiter.waiters.peek();
+                if (waiter.future().isDone()) {
+                    // 대기 시간 초과로 이미 실패한 요청
+                    limiter.waiters.poll();
+                    continue;
+                }
+                wait = limiter.waitMillisFor(waiter);
+                if (wait != 0) {
+                    break;
+                }
+                limiter.waiters.poll();
+                if (limiter.requestsPerMinute > 0) {
+                    limiter.requestBucket -= 1;
+                }
+                int reserved = limiter.tokensPerMinute > 0 ? Math.min(waiter.tokens(), limiter.tokensPerMinute) : 0;
+                limiter.tokenBucket -= reserved;
+                limiter.inFlight++;
+                granted.add(waiter);
+                permits.add(new Permit(limiter, reserved));
+            }
+            if (wait > 0 && !limiter.wakeScheduled) {
+                limiter.wakeScheduled = true;
+                scheduler.schedule(() -> {
+                    synchronized (limiter) {
+                        limiter.wakeScheduled = false;
+                    }
+                    drain(limiter);
+                }, wait, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // 허가 후 이어지는 요청 전송은 락 밖에서 실행
+        for (int i = 0; i < granted.size(); i++) {
+            Waiter waiter = granted.get(i);
+            Permit permit = permits.get(i);
+            limiter.waitTimer.record(System.nanoTime() - waiter.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            if (!waiter.future().complete(permit)) {
+                // 허가 직전에 대기 시간이 초과된 경우 사용한 한도를 되돌림
+                limiter.onCancel(permit.reservedTokens);
+                drain(limiter);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.newsapp.eyehope.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 뉴스 본문 요약 (프롬프트 구성 및 LLM 호출)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsSummarizer {
+
+    // 프롬프트 문구를 바꾸면 올려서 이전 프롬프트로 만든 캐시 요약을 쓰지 않게 한다
+    static final String PROMPT_VERSION = "1";
+
+    /**
+     * 요약 결과
+     * @param cacheKey 요약 캐시에 저장할 키 (캐시 대상이 아니거나 캐시에서 가져온 요약이면 null)
+     * @param completion 캐시에 저장할 LLM 응답
+     * @param latencyMs 요약 생성에 걸린 시간
+     */
+    public record Summary(String text, String cacheKey, LlmCompletion completion, long latencyMs) {
+    }
+
+    private final LlmProviderRouter llmProviderRouter;
+    private final SummaryCache summaryCache;
+    private final PromptCompactor promptCompactor;
+
+    /**
+     * 다음 요약에 사용할 LLM 제공자 (SummarizationExecutor 레인 이름)
+     */
+    public String selectProvider() {
+        return llmProviderRouter.selectProvider();
+    }
+
+    /**
+     * LLM으로 추출된 뉴스 본문을 요약. 선택한 제공자가 실패하면 라우터가 다른 제공자로 넘긴다.
+     * 본문은 PromptCompactor로 토큰 예산에 맞게 줄인 뒤 보낸다.
+     * 같은 본문을 이미 요약했으면 LLM을 호출하지 않고 캐시된 요약을 반환한다 (본문 추출에 실패했거나 짧은 본문은 제외).
+     * @param provider selectProvider로 고른 제공자
+     * @param url 뉴스 기사 URL
+     * @param title 뉴스 제목
+     * @param newsContent ArticleExtractor로 추출한 본문
+     * @return 요약 결과. 모든 제공자가 실패하면 LlmProviderException으로 완료된다.
+     * 캐시 저장은 DB 쓰기이므로 LLM 응답 처리 스레드에서 하지 않고, 호출한 쪽이 저장 단계에서 saveToCache로 저장한다.
+     */
+    public CompletableFuture<Summary> summarizeAsync(String provider, String url, String title, String newsContent) {
+        // 추출 실패 시 URL만 전달
+        boolean extracted = !ArticleExtractor.isFailure(newsContent);
+        if (!extracted) {
+            log.warn("본문 추출 실패로 URL만 전달: {}", url);
+            newsContent = "URL: " + url;
+        } else {
+            // 상용구 / 중복 문장을 빼고 토큰 예산에 맞게 줄임 (기자 정보만 다른 전재 기사도 같은 캐시 키가 됨)
+            newsContent = promptCompactor.compact(title, newsContent);
+        }
+
+        // 전재 기사는 제목만 조금씩 달라지는 경우가 많아 본문만 키로 사용
+        // 짧은 본문은 다른 기사와 겹칠 수 있어 캐시하지 않음 (요약은 제목에도 좌우되므로)
+        boolean cacheable = extracted && summaryCache.isCacheable(newsContent);
+        if (cacheable) {
+            String cached = summaryCache.get(summaryCache.keyOf(PROMPT_VERSION, llmProviderRouter.getModel(provider), newsContent));
+            if (cached != null) {
+                log.debug("요약 캐시 적중: {}", url);
+                return CompletableFuture.completedFuture(new Summary(cached, null, null, 0));
+            }
+        }
+
+        String prompt = String.format(
+            "# 역할\n" +
+                    "당신은 뉴스 기사를 분석하고 핵심 내용만 간결하게 요약하는 AI 어시스턴트입니다.\n" +
+                    "# 처리 규칙\n" +
+                    "1.  요약문은 3~4개의 완전한 한국어 문장으로 작성해주세요.\n" +
+                    "2.  기사 원문의 고유명사, 수치, 날짜를 정확하게 포함해야 합니다. 원문에 없는 내용, 개인적인 의견, 추측은 절대 추가하지 마세요.\n" +
+                    "3.  문장은 간결하게 작성하여 TTS(Text-to-Speech) 사용자가 듣기 편하도록 만들어주세요.\n" +
+                    "4.  **만약 기사 본문에 '李 대통령' 또는 '이 대통령'이라는 표현이 나올 경우에만, 이를 '이재명 대통령'으로 간주하여 요약에 반영합니다.**\n" +
+                    "5.  요약문 외에 '알겠습니다', '요약:', '**' 등 어떠한 추가 텍스트도 절대 포함하지 마세요. 최종 결과는 오직 요약문이어야 합니다.\n" +
+                    "6. 주어진 내용이 너무 짧거나 유의미한 정보가 없어 요약이 불가능하다면, 혹은 본문이 URL형태로 입력되어있다면 억지로 요약문을 만들지 말고 \"본문이 없는 기사입니다.\" 라고만 답변해 주세요.\n"+
+                    "# 작업\n" +
+                    "아래 '자료'에 주어진 뉴스 기사를 위의 처리 규칙에 따라 요약해주세요.\n" +
+                    "# 자료\n" +
+                    "- 제목: %s\n" +
+                    "- 본문: %s",
+            title, newsContent
+        );
+
+        long startedAt = System.nanoTime();
+        String content = newsContent;
+        return llmProviderRouter.completeAsync(provider, prompt).thenApply(completion -> {
+            // 다른 제공자로 넘어갔을 수 있으므로 실제로 응답한 모델로 저장
+            String cacheKey = cacheable && isValidSummary(completion.text())
+                    ? summaryCache.keyOf(PROMPT_VERSION, completion.model(), content) : null;
+            return new Summary(completion.text(), cacheKey, completion, (System.nanoTime() - startedAt) / 1_000_000);
+        });
+    }
+
+    /**
+     * 새로 만든 요약을 캐시에 저장 (캐시 대상이 아니면 무시)
+     */
+    public void saveToCache(Summary summary) {
+        if (summary.cacheKey() != null) {
+            summaryCache.put(summary.cacheKey(), PROMPT_VERSION, summary.completion(), summary.latencyMs());
+        }
+    }
+
+    /**
+     * 요약 결과가 저장할 만한 정상 응답인지 확인
+     */
+    public static boolean isValidSummary(String summary) {
+        return summary != null && !summary.isEmpty() && !summary.startsWith("Error");
+    }
+}
@@ -0,0 +1,135 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.FeedShardingConfig;
+import com.newsapp.eyehope.api.config.NodeConfig;
+import com.newsapp.eyehope.api.repository.BackendNodeRepository;
+import com.newsapp.eyehope.api.util.ConsistentHashRing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 백엔드 노드 목록과 피드 분배
+ * 각 노드는 backend_nodes에 heartbeat를 남기고, 살아 있는 노드로 일관 해시 링을 만들어 피드를 나눠 맡는다.
+ * 노드가 추가/종료되면 링을 다시 만들며, 옮겨 가는 피드는 그 노드 주변의 일부뿐이다.
+ * 다음 수집 예정 시각(news.next_poll_at)이 DB에 있으므로 피드를 넘겨받은 노드는 예정 시각에 그대로 이어서 수집한다.
+ */
+@Slf4j
+@Component
+public class NodeMembership {
+
+    // 종료 후 이 시간이 지난 노드 행은 삭제
+    private static final long STALE_ROW_SECONDS = 24 * 60 * 60;
+
+    private final FeedShardingConfig config;
+    private final BackendNodeRepository backendNodeRepository;
+    private final String nodeId;
+    private final Counter rebalanceCounter;
+
+    private volatile ConsistentHashRing ring;
+
+    public NodeMembership(FeedShardingConfig config, NodeConfig nodeConfig,
+                          BackendNodeRepository backendNodeRepository, MeterRegistry registry) {
+        this.config = config;
+        this.backendNodeRepository = backendNodeRepository;
+        this.nodeId = nodeConfig.getNodeId();
+
+        this.rebalanceCounter = Counter.builder("news.shard.rebalance")
+                .description("노드 추가/제거로 피드 분배를 다시 계산한 횟수")
+                .register(registry);
+        Gauge.builder("news.shard.nodes", this, membership -> membership.getLiveNodes().size())
+                .description("피드 분배에 참여 중인 노드 수")
+                .register(registry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 노드가 피드를 담당하는지 여부 (분배를 끄면 항상 true)
+     */
+    public boolean owns(Long feedId) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        return nodeId.equals(currentRing().nodeFor("feed:" + feedId));
+    }
+
+    public List<String> getLiveNodes() {
+        ConsistentHashRing current = ring;
+        return current != null ? current.getNodes() : List.of(nodeId);
+    }
+
+    /**
+     * heartbeat 기록 후 살아 있는 노드로 링 갱신
+     */
+    @Scheduled(fixedDelayString = "${news.sharding.heartbeat-ms:10000}")
+    public void heartbeat() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        refresh();
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            // 다른 노드가 TTL을 기다리지 않고 바로 피드를 넘겨받도록 행 삭제
+            backendNodeRepository.deleteById(nodeId);
+        } catch (Exception e) {
+            log.debug("노드 행 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private ConsistentHashRing currentRing() {
+        ConsistentHashRing current = ring;
+        if (current == null) {
+            // 첫 heartbeat 전에 수집이 시작되면 다른 노드의 피드까지 가져가지 않도록 먼저 노드 목록을 읽는다
+            current = refresh();
+        }
+        return current;
+    }
+
+    private synchronized ConsistentHashRing refresh() {
+        List<String> nodes;
+        try {
+            backendNodeRepository.heartbeat(nodeId);
+            nodes = new ArrayList<>(backendNodeRepository.findLiveNodeIds(config.getNodeTtlMs() / 1000));
+            backendNodeRepository.deleteStale(STALE_ROW_SECONDS);
+        } catch (Exception e) {
+            log.warn("노드 heartbeat 실패: {}", e.getMessage());
+            // 노드 목록을 모르면 기존 분배를 유지하고, 처음이면 일단 전체를 맡는다
+            if (ring == null) {
+                ring = new ConsistentHashRing(List.of(nodeId), config.getVirtualNodes());
+            }
+            return ring;
+        }
+
+        if (!nodes.contains(nodeId)) {
+            nodes.add(nodeId);
+        }
+
+        ConsistentHashRing previous = ring;
+        ConsistentHashRing next = new ConsistentHashRing(nodes, config.getVirtualNodes());
+        if (previous == null || !previous.getNodes().equals(next.getNodes())) {
+            ring = next;
+            if (previous != null) {
+                rebalanceCounter.increment();
+            }
+            log.info("피드 분배 갱신: 노드 {}개 {} (이 노드: {})",
+                    next.getNodes().size(), next.getNodes(), nodeId);
+        }
+        return ring;
+    }
+}
@@ -1,100 +1,58 @@
 package com.newsapp.eyehope.api.service;
 
 import com.newsapp.eyehope.api.config.OpenRouterConfig;
+import com.newsapp.eyehope.api.config.SummarizationConfig;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONArray;
 import org.json.JSONObject;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+import java.util.Map;
+
+/**
+ * OpenRouter (OpenAI 호환 API) 제공자
+ */
 @Slf4j
 @Service
-public class OpenRouterService {
-
-    private static final int TIMEOUT_MS = 120_000; // 2분
+public class OpenRouterService extends AbstractLlmProvider {
 
     private final OpenRouterConfig openRouterConfig;
-    private final RestTemplate restTemplate;
 
-    public OpenRouterService(OpenRouterConfig openRouterConfig) {
+    public OpenRouterService(OpenRouterConfig openRouterConfig, LlmHttpClient llmHttpClient,
+                             LlmRateLimiter llmRateLimiter) {
+        super(llmHttpClient, llmRateLimiter);
         this.openRouterConfig = openRouterConfig;
-
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(TIMEOUT_MS);
-        factory.setReadTimeout(TIMEOUT_MS);
-        this.restTemplate = new RestTemplate(factory);
     }
 
-    /**
-     * OpenRouter API를 사용하여 콘텐츠 생성
-     * @param prompt 프롬프트
-     * @return 생성된 콘텐츠
-     */
-    public String generateContent(String prompt) {
-        try {
-            // OpenAI 호환 API 요청 형식 구성
-            JSONObject requestBody = new JSONObject();
-
-            JSONArray messages = new JSONArray();
-            JSONObject userMessage = new JSONObject();
-            userMessage.put("role", "user");
-            userMessage.put("content", prompt);
-            messages.put(userMessage);
-
-            requestBody.put("model", openRouterConfig.getModel());
-            requestBody.put("messages", messages);
-            requestBody.put("temperature", 0.7);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(openRouterConfig.getApiKey());
-            // OpenRouter 권장 헤더 (리더보드/통계 집계용)
-            headers.set("HTTP-Referer", "https://eye-hope.com");
-            headers.set("X-Title", "Eye-Hope");
-
-            HttpEntity<String> entity = new HttpEntity<>(requestBody.toString(), headers);
-
-            String response = restTemplate.postForObject(openRouterConfig.getApiUrl(), entity, String.class);
+    @Override
+    public String getName() {
+        return SummarizationConfig.PROVIDER_OPENROUTER;
+    }
 
-            if (response == null) {
-                return "Error: OpenRouter로부터 응답을 받지 못했습니다.";
-            }
+    @Override
+    public String getModel() {
+        return openRouterConfig.getModel();
+    }
 
-            return extractTextFromResponse(response);
-        } catch (RestClientException e) {
-            log.error("OpenRouter 호출 중 오류 발생: {}", e.getMessage(), e);
-            return "Error generating content: " + e.getMessage();
-        } catch (Exception e) {
-            log.error("OpenRouter 호출 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-            return "Error generating content: " + e.getMessage();
-        }
+    @Override
+    protected String endpoint() {
+        return openRouterConfig.getApiUrl();
     }
 
-    /**
-     * OpenAI 호환 API 응답에서 텍스트 추출
-     * @param response JSON 응답
-     * @return 추출된 텍스트
-     */
-    private String extractTextFromResponse(String response) {
-        try {
-            JSONObject jsonResponse = new JSONObject(response);
-            JSONArray choices = jsonResponse.getJSONArray("choices");
+    @Override
+    protected JSONObject buildRequestBody(String prompt) {
+        return chatCompletionRequest(openRouterConfig.getModel(), prompt);
+    }
 
-            if (choices.length() > 0) {
-                JSONObject choice = choices.getJSONObject(0);
-                JSONObject message = choice.getJSONObject("message");
-                return message.getString("content");
-            }
+    @Override
+    protected void addHeaders(Map<String, String> headers) {
+        headers.put("Authorization", "Bearer " + openRouterConfig.getApiKey());
+        // OpenRouter 권장 헤더 (리더보드/통계 집계용)
+        headers.put("HTTP-Referer", "https://eye-hope.com");
+        headers.put("X-Title", "Eye-Hope");
+    }
 
-            return "No response generated";
-        } catch (Exception e) {
-            log.error("OpenRouter 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
-            return "Error parsing response: " + e.getMessage();
-        }
+    @Override
+    protected LlmCompletion parseResponse(JSONObject response) {
+        return parseChatCompletion(response);
     }
 }
@@ -0,0 +1,148 @@
+package com.newsapp.eyehope.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 파이프라인의 한 단계
+ * 제한된 크기의 큐와 전용 워커 스레드를 가지며, 큐가 가득 차면 submit이 블록되어
+ * 앞 단계로 배압(backpressure)이 전파된다.
+ */
+@Slf4j
+public class PipelineStage<T extends PipelineStage.Item> {
+
+    /**
+     * 파이프라인을 흐르는 작업 단위. 자신이 속한 수집 실행을 알고 있어야 한다.
+     */
+    public interface Item {
+        IngestionRun run();
+    }
+
+    @FunctionalInterface
+    public interface Handler<T> {
+        void handle(List<T> items) throws Exception;
+    }
+
+    private final String name;
+    private final int workers;
+    private final int batchSize;
+    private final BlockingQueue<T> queue;
+    private final Handler<T> handler;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = false;
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Timer latencyTimer;
+
+    public PipelineStage(String name, int workers, int queueCapacity, int batchSize,
+                         Handler<T> handler, MeterRegistry registry) {
+        this.name = name;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.handler = handler;
+
+        Gauge.builder("news.pipeline.queue.depth", queue, BlockingQueue::size)
+                .tag("stage", name)
+                .description("파이프라인 단계별 대기 중인 작업 수")
+                .register(registry);
+        this.processedCounter = Counter.builder("news.pipeline.processed")
+                .tag("stage", name)
+                .description("파이프라인 단계별 처리한 작업 수")
+                .register(registry);
+        this.failedCounter = Counter.builder("news.pipeline.failed")
+                .tag("stage", name)
+                .description("파이프라인 단계별 실패한 작업 수")
+                .register(registry);
+        this.latencyTimer = Timer.builder("news.pipeline.latency")
+                .tag("stage", name)
+                .description("파이프라인 단계별 처리 시간 (배치 단위)")
+                .register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        for (int i = 1; i <= workers; i++) {
+            Thread thread = new Thread(this::workerLoop, "pipeline-" + name + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    /**
+     * 작업을 큐에 넣는다. 큐가 가득 차 있으면 자리가 날 때까지 대기한다.
+     * 호출 전에 작업이 속한 실행의 대기 건수를 늘려 두어야 한다 (IngestionRun.enter).
+     */
+    public void submit(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    /**
+     * 큐에 자리가 있을 때만 작업을 넣는다 (대기하지 않음). 블록되면 안 되는 스레드에서 사용한다.
+     * 호출 전에 작업이 속한 실행의 대기 건수를 늘려 두어야 한다 (IngestionRun.enter).
+     * @return 넣지 못했으면 false
+     */
+    public boolean offer(T item) {
+        return queue.offer(item);
+    }
+
+    private void workerLoop() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                if (batchSize > 1) {
+                    queue.drainTo(batch, batchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean success = true;
+            try {
+                handler.handle(batch);
+            } catch (InterruptedException e) {
+                success = false;
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                success = false;
+                log.error("[{}] 파이프라인 단계 처리 중 오류 발생: {}", name, e.getMessage(), e);
+            } finally {
+                latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (success) {
+                    processedCounter.increment(batch.size());
+                } else {
+                    failedCounter.increment(batch.size());
+                }
+                for (T item : batch) {
+                    item.run().leave(name, success);
+                }
+                batch.clear();
+            }
+        }
+    }
+}
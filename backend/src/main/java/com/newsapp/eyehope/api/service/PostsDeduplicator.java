@@ -0,0 +1,140 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.UrlFingerprintBackfillJob;
+import com.newsapp.eyehope.api.domain.Posts;
+import com.newsapp.eyehope.api.dto.PostsRequestDto;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.util.UrlFingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수집된 기사 목록의 중복을 제거하고 새 기사만 저장
+ * 배치 내부 중복(여러 카테고리 피드에 같은 기사가 실린 경우)을 먼저 제거한 뒤
+ * 이미 저장된 기사는 url_hash 유니크 제약에 대한 ON CONFLICT DO NOTHING으로 걸러낸다.
+ */
+@Slf4j
+@Component
+public class PostsDeduplicator {
+
+    // IN 절 하나에 넣을 최대 URL 수
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final PostsRepository postsRepository;
+    private final UrlFingerprintBackfillJob backfillJob;
+
+    private final Timer dedupTimer;
+    private final Counter newCounter;
+    private final Counter existingCounter;
+    private final Counter batchDuplicateCounter;
+    private final DistributionSummary hitRatio;
+
+    public PostsDeduplicator(PostsRepository postsRepository, UrlFingerprintBackfillJob backfillJob,
+                             MeterRegistry registry) {
+        this.postsRepository = postsRepository;
+        this.backfillJob = backfillJob;
+
+        this.dedupTimer = Timer.builder("news.dedup.time")
+                .description("기사 URL 중복 제거 소요 시간")
+                .register(registry);
+        this.newCounter = Counter.builder("news.dedup.entries")
+                .tag("result", "new")
+                .description("새로 저장된 기사 수")
+                .register(registry);
+        this.existingCounter = Counter.builder("news.dedup.entries")
+                .tag("result", "existing")
+                .description("이미 저장되어 있던 기사 수")
+                .register(registry);
+        this.batchDuplicateCounter = Counter.builder("news.dedup.entries")
+                .tag("result", "batch_duplicate")
+                .description("같은 배치 안에서 중복된 기사 수")
+                .register(registry);
+        this.hitRatio = DistributionSummary.builder("news.dedup.hit.ratio")
+                .description("배치별 중복 기사 비율 (0~1)")
+                .register(registry);
+    }
+
+    /**
+     * 중복을 제거한 뒤 새 기사만 저장
+     * 이미 저장된 기사는 INSERT ... ON CONFLICT DO NOTHING으로 걸러지므로 별도의 존재 확인 쿼리가 없다.
+     * @return 실제로 새로 저장된 기사 (입력 순서 유지, id 포함)
+     */
+    public List<Posts> insertNew(List<PostsRequestDto> posts) {
+        return dedupTimer.record(() -> {
+            Map<Long, PostsRequestDto> unique = new LinkedHashMap<>();
+            int batchDuplicates = 0;
+
+            for (PostsRequestDto dto : posts) {
+                if (dto.getUrl() == null || dto.getUrl().trim().isEmpty()) {
+                    log.warn("URL이 없는 뉴스는 건너뜁니다: {}", dto.getTitle());
+                    continue;
+                }
+                if (dto.getTitle() == null || dto.getTitle().trim().isEmpty()) {
+                    log.warn("제목이 없는 뉴스는 건너뜁니다: {}", dto.getUrl());
+                    continue;
+                }
+                if (unique.putIfAbsent(UrlFingerprint.of(dto.getUrl()), dto) != null) {
+                    batchDuplicates++;
+                }
+            }
+
+            // 백필이 끝나기 전에는 url_hash가 없는 기존 행이 있어 유니크 제약으로 걸러지지 않으므로 URL로 확인
+            int legacyDuplicates = 0;
+            if (!backfillJob.isCompleted() && !unique.isEmpty()) {
+                List<String> urls = unique.values().stream().map(PostsRequestDto::getUrl).toList();
+                Set<String> existingUrls = findExistingUrls(urls);
+                int before = unique.size();
+                unique.values().removeIf(dto -> existingUrls.contains(dto.getUrl()));
+                legacyDuplicates = before - unique.size();
+            }
+
+            List<Posts> entities = new ArrayList<>(unique.size());
+            for (PostsRequestDto dto : unique.values()) {
+                // 뉴스 ID가 설정되어 있는지 확인
+                if (dto.getNewsId() == null) {
+                    // NewsId가 없는 경우 기본값 설정 (예: 기타 카테고리)
+                    dto.setNewsId(8L); // 기본값으로 오피니언 카테고리 설정
+                    log.debug("NewsId가 없는 뉴스에 기본값 설정: {}", dto.getTitle());
+                }
+                entities.add(dto.toEntity());
+            }
+
+            List<Posts> inserted = entities.isEmpty()
+                    ? List.of()
+                    : postsRepository.insertIgnoringDuplicates(entities);
+
+            int existing = entities.size() - inserted.size() + legacyDuplicates;
+            int total = inserted.size() + existing + batchDuplicates;
+            newCounter.increment(inserted.size());
+            existingCounter.increment(existing);
+            batchDuplicateCounter.increment(batchDuplicates);
+            if (total > 0) {
+                hitRatio.record((double) (total - inserted.size()) / total);
+            }
+
+            log.debug("중복 제거 결과: 신규 {}, 기존 {}, 배치 내 중복 {}",
+                    inserted.size(), existing, batchDuplicates);
+            return inserted;
+        });
+    }
+
+    private Set<String> findExistingUrls(List<String> urls) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < urls.size(); from += QUERY_CHUNK_SIZE) {
+            List<String> chunk = urls.subList(from, Math.min(from + QUERY_CHUNK_SIZE, urls.size()));
+            existing.addAll(postsRepository.findExistingUrls(chunk));
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,200 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.StoryClusterConfig;
+import com.newsapp.eyehope.api.domain.Posts;
+import com.newsapp.eyehope.api.dto.PostsRequestDto;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import com.newsapp.eyehope.api.util.MinHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 뉴스 수집 결과를 짧은 트랜잭션 단위로 저장
+ * RSS/본문 수집과 LLM 호출은 트랜잭션 밖에서 수행하고, DB 커넥션은 여기서만 잠깐 사용한다.
+ */
+@Slf4j
+@Component
+public class PostsWriter {
+
+    private final PostsDeduplicator postsDeduplicator;
+    private final PostsRepository postsRepository;
+    private final SummaryTaskQueue summaryTaskQueue;
+    private final StoryClusterIndex storyClusterIndex;
+    private final StoryClusterConfig storyClusterConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer holdTimer;
+    private final Timer runHoldTimer;
+
+    /**
+     * 수집 1회 동안 트랜잭션이 커넥션을 점유한 시간 누적
+     */
+    public static class RunMeter {
+        private final AtomicLong holdNanos = new AtomicLong();
+
+        public long getHoldMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(holdNanos.get());
+        }
+    }
+
+    /**
+     * 새로 저장된 기사
+     * @param task 등록된 요약 작업. 다른 기사의 클러스터에 합류해 요약을 공유하는 기사는 null
+     */
+    public record QueuedPost(Posts post, ClaimedTask task) {
+    }
+
+    public PostsWriter(PostsDeduplicator postsDeduplicator, PostsRepository postsRepository,
+                       SummaryTaskQueue summaryTaskQueue, StoryClusterIndex storyClusterIndex,
+                       StoryClusterConfig storyClusterConfig, TransactionTemplate transactionTemplate,
+                       MeterRegistry registry) {
+        this.postsDeduplicator = postsDeduplicator;
+        this.postsRepository = postsRepository;
+        this.summaryTaskQueue = summaryTaskQueue;
+        this.storyClusterIndex = storyClusterIndex;
+        this.storyClusterConfig = storyClusterConfig;
+        this.transactionTemplate = transactionTemplate;
+
+        this.holdTimer = Timer.builder("news.ingest.db.hold.time")
+                .description("수집 저장 트랜잭션 1건의 커넥션 점유 시간")
+                .register(registry);
+        this.runHoldTimer = Timer.builder("news.ingest.db.hold.per.run")
+                .description("수집 1회 동안 커넥션 점유 시간 합계")
+                .register(registry);
+    }
+
+    public RunMeter startRun() {
+        return new RunMeter();
+    }
+
+    public void finishRun(RunMeter run) {
+        runHoldTimer.record(run.holdNanos.get(), TimeUnit.NANOSECONDS);
+        log.info("수집 중 DB 커넥션 점유 시간: {}ms", run.getHoldMillis());
+    }
+
+    /**
+     * 중복을 제거하고 새 기사만 저장하면서, 같은 트랜잭션에서 요약 작업을 등록
+     * 유사 기사가 이미 있는 기사는 그 클러스터에 합류시키고 요약 작업을 만들지 않는다.
+     * 등록된 작업은 이 노드가 바로 임대한 상태이므로 호출한 쪽이 이어서 처리한다.
+     * @return 새로 저장된 기사와 작업 ID
+     */
+    public List<QueuedPost> insertNew(List<PostsRequestDto> posts, RunMeter run) {
+        List<Long> indexed = new ArrayList<>();
+        try {
+            return inTransaction(run, () -> {
+                List<Posts> inserted = postsDeduplicator.insertNew(posts);
+                List<Posts> members = assignClusters(inserted, indexed);
+
+                Map<Long, Posts> leaders = new HashMap<>();
+                inserted.forEach(post -> leaders.put(post.getId(), post));
+                members.forEach(post -> leaders.remove(post.getId()));
+
+                List<QueuedPost> queued = new ArrayList<>(inserted.size());
+                for (ClaimedTask task : summaryTaskQueue.enqueueClaimed(leaders.keySet())) {
+                    queued.add(new QueuedPost(leaders.get(task.postId()), task));
+                }
+                members.forEach(post -> queued.add(new QueuedPost(post, null)));
+                // 대표 기사의 작업이 DEAD가 된 클러스터에 합류했으면 멤버 하나가 대신 요약을 받는다 (작업 큐 워커가 처리)
+                summaryTaskQueue.enqueueOrphanMembers(members.stream().map(Posts::getId).toList());
+                return queued;
+            });
+        } catch (RuntimeException e) {
+            storyClusterIndex.forget(indexed);
+            throw e;
+        }
+    }
+
+    /**
+     * 새 기사에 MinHash 서명과 클러스터 ID를 지정
+     * 대표 기사의 요약이 이미 끝났다면 멤버 기사의 cluster_summary에 바로 복사한다.
+     * (대표 기사 요약 저장과 동시에 커밋되는 멤버는 cluster_summary가 비어 있을 수 있다)
+     * @return 기존 클러스터에 합류한 기사
+     */
+    private List<Posts> assignClusters(List<Posts> inserted, List<Long> indexed) {
+        if (!storyClusterConfig.isEnabled() || inserted.isEmpty()) {
+            return List.of();
+        }
+
+        List<Posts> clustered = new ArrayList<>();
+        List<Posts> members = new ArrayList<>();
+        for (Posts post : inserted) {
+            int[] signature = clusterSignature(post.getTitle(), post.getContent());
+            if (signature == null) {
+                continue;
+            }
+            long clusterId = storyClusterIndex.assign(post.getId(), signature);
+            indexed.add(post.getId());
+            post.setMinhash(MinHash.toBytes(signature));
+            post.setClusterId(clusterId);
+            clustered.add(post);
+            if (clusterId != post.getId()) {
+                members.add(post);
+            }
+        }
+        postsRepository.updateClusters(clustered);
+
+        if (!members.isEmpty()) {
+            int copied = postsRepository.copyClusterSummaries(members.stream().map(Posts::getId).toList());
+            log.info("유사 기사 {}건을 기존 클러스터에 합류 (요약 복사 {}건)", members.size(), copied);
+        }
+        return members;
+    }
+
+    /**
+     * 클러스터 비교용 MinHash 서명
+     * RSS 설명이 없어 채운 안내 문구나 제목을 반복한 설명은 기사마다 같은 2-gram을 채워
+     * 무관한 기사끼리 유사도를 크게 올리므로, 이런 경우에는 제목만 사용한다.
+     * @return 특징이 너무 적으면 null (클러스터로 묶지 않음)
+     */
+    static int[] clusterSignature(String title, String content) {
+        String lead = content;
+        if (content == null || content.isBlank() || RssFeedService.isPlaceholder(content)
+                || MinHash.normalize(content).equals(MinHash.normalize(title))) {
+            lead = null;
+        }
+        return MinHash.signature(title, lead);
+    }
+
+    /**
+     * 요약 결과 반영과 작업 완료 처리를 한 트랜잭션에서 수행
+     * @param summaries 기사 ID별 요약문
+     * @param tasks 완료할 요약 작업
+     */
+    public void saveSummaries(Map<Long, String> summaries, Collection<ClaimedTask> tasks, RunMeter run) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        inTransaction(run, () -> {
+            summaries.forEach((postId, summary) -> {
+                postsRepository.updateContent(postId, summary);
+                postsRepository.updateClusterContent(postId, summary);
+            });
+            summaryTaskQueue.complete(tasks);
+            return null;
+        });
+    }
+
+    private <T> T inTransaction(RunMeter run, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            holdTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            run.holdNanos.addAndGet(elapsed);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.util.TokenEstimator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 요약 전 기사 본문 압축
+ * 본문을 문장으로 나눠 기자 정보, 저작권 문구 같은 상용구와 거의 같은 문장을 빼고,
+ * 남은 문장을 위치(리드 문장 우선)와 핵심어 밀도로 점수를 매겨 토큰 예산 안에서 좋은 문장만 원래 순서대로 남긴다.
+ * 예산 안에 들어오는 본문은 상용구와 중복만 제거한다.
+ * 핵심어는 한국어 조사 문제를 피하려고 MinHash와 같이 공백을 뺀 문자 2-gram으로 센다.
+ */
+@Component
+public class PromptCompactor {
+
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?。])\\s+|\\s*\\n+\\s*");
+    // (서울=연합뉴스) 홍길동 기자 = / [이데일리 홍길동 기자] 같은 문장 앞 기자 정보
+    private static final Pattern LEADING_BYLINE = Pattern.compile(
+            "^(?:[\\[(【][^\\])】]{0,30}(?:=|기자|특파원)[^\\])】]{0,30}[\\])】]\\s*)?"
+                    + "(?:[가-힣]{2,4}\\s*(?:기자|특파원|통신원)\\s*=\\s*)?");
+    private static final Pattern BOILERPLATE = Pattern.compile(
+            "무단\\s*전재|재배포\\s*금지|저작권자|ⓒ|©|(?i:copyright|all rights reserved)"
+                    + "|[가-힣]{2,4}\\s*(?:기자|특파원)\\s*[\\w.+-]+@[\\w-]+\\.[\\w.]+"
+                    + "|^[\\w.+-]+@[\\w-]+\\.[\\w.]+$"
+                    + "|^[가-힣]{2,4}\\s*(?:기자|특파원|통신원|논설위원)$"
+                    + "|^[▶☞■△◆]"
+                    + "|^\\[?(?:사진|그래픽|영상)\\s*[=:]");
+    private static final Pattern NON_TEXT = Pattern.compile("[^\\p{L}\\p{N}]");
+    // 이 자카드 유사도 이상인 문장은 앞 문장의 중복으로 본다
+    private static final double DUPLICATE_SIMILARITY = 0.8;
+    // 핵심어로 볼 상위 2-gram 수
+    private static final int KEYWORDS = 30;
+
+    private record Sentence(int index, String text, Set<String> shingles, int tokens) {
+    }
+
+    private final SummarizationConfig config;
+    private final DistributionSummary tokensBefore;
+    private final DistributionSummary tokensAfter;
+
+    public PromptCompactor(SummarizationConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.tokensBefore = DistributionSummary.builder("news.summarize.prompt.tokens")
+                .description("요약에 보내는 기사 본문 토큰 수 (추정)")
+                .tag("stage", "before")
+                .baseUnit("tokens")
+                .register(registry);
+        this.tokensAfter = DistributionSummary.builder("news.summarize.prompt.tokens")
+                .description("요약에 보내는 기사 본문 토큰 수 (추정)")
+                .tag("stage", "after")
+                .baseUnit("tokens")
+                .register(registry);
+    }
+
+    /**
+     * 토큰 예산에 맞게 본문 압축
+     * @return 압축한 본문 (압축을 끄면 그대로)
+     */
+    public String compact(String title, String content) {
+        int before = TokenEstimator.estimate(content);
+        tokensBefore.record(before);
+        if (!config.isCompactionEnabled()) {
+            tokensAfter.record(before);
+            return content;
+        }
+
+        List<Sentence> sentences = splitSentences(content);
+        if (sentences.isEmpty()) {
+            // 문장이 모두 상용구로 판단되면 원문을 그대로 사용
+            tokensAfter.record(before);
+            return content;
+        }
+
+        int budget = config.getCompactionTokenBudget();
+        List<Sentence> kept = sentences;
+        if (sentences.stream().mapToInt(Sentence::tokens).sum() > budget) {
+            kept = selectWithinBudget(title, sentences, budget);
+        }
+
+        String compacted = String.join(" ", kept.stream().map(Sentence::text).toList());
+        tokensAfter.record(TokenEstimator.estimate(compacted));
+        return compacted;
+    }
+
+    /**
+     * 문장 분리, 앞쪽 기자 정보 제거, 상용구 / 중복 문장 제외
+     */
+    private List<Sentence> splitSentences(String content) {
+        List<Sentence> sentences = new ArrayList<>();
+        for (String raw : SENTENCE_BREAK.split(content)) {
+            String text = raw.trim();
+            if (sentences.isEmpty()) {
+                text = LEADING_BYLINE.matcher(text).replaceFirst("").trim();
+            }
+            if (text.isEmpty() || BOILERPLATE.matcher(text).find()) {
+                continue;
+            }
+            Set<String> shingles = shingles(text);
+            if (shingles.isEmpty() || isDuplicate(shingles, sentences)) {
+                continue;
+            }
+            sentences.add(new Sentence(sentences.size(), text, shingles, TokenEstimator.estimate(text)));
+        }
+        return sentences;
+    }
+
+    private static boolean isDuplicate(Set<String> shingles, List<Sentence> kept) {
+        for (Sentence sentence : kept) {
+            if (jaccard(shingles, sentence.shingles()) >= DUPLICATE_SIMILARITY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 점수가 높은 문장부터 예산이 허용하는 만큼 고른 뒤 원래 순서로 정렬
+     * 점수 = 위치 0.5 + 핵심어 밀도 0.3 + 제목 겹침 0.2
+     */
+    private List<Sentence> selectWithinBudget(String title, List<Sentence> sentences, int budget) {
+        Set<String> keywords = topKeywords(sentences);
+        Set<String> titleShingles = title != null ? shingles(title) : Set.of();
+        int count = sentences.size();
+
+        Map<Sentence, Double> scores = new HashMap<>();
+        for (Sentence sentence : sentences) {
+            // 리드 문장일수록 높고 뒤로 갈수록 선형으로 낮아짐
+            double position = 1.0 - (double) sentence.index() / count;
+            double density = ratioIn(sentence.shingles(), keywords);
+            double titleOverlap = ratioIn(sentence.shingles(), titleShingles);
+            scores.put(sentence, 0.5 * position + 0.3 * density + 0.2 * titleOverlap);
+        }
+
+        List<Sentence> ranked = new ArrayList<>(sentences);
+        ranked.sort(Comparator.comparingDouble((Sentence sentence) -> scores.get(sentence)).reversed());
+
+        List<Sentence> selected = new ArrayList<>();
+        int used = 0;
+        for (Sentence sentence : ranked) {
+            if (used + sentence.tokens() <= budget) {
+                selected.add(sentence);
+                used += sentence.tokens();
+            }
+        }
+        if (selected.isEmpty()) {
+            // 예산 안에 드는 문장이 하나도 없으면 리드 문장만 보냄
+            selected.add(sentences.get(0));
+        }
+        selected.sort(Comparator.comparingInt(Sentence::index));
+        return selected;
+    }
+
+    /**
+     * 본문 전체에서 두 번 이상 나온 2-gram 중 빈도 상위
+     */
+    private static Set<String> topKeywords(List<Sentence> sentences) {
+        Map<String, Integer> frequency = new HashMap<>();
+        for (Sentence sentence : sentences) {
+            for (String shingle : sentence.shingles()) {
+                frequency.merge(shingle, 1, Integer::sum);
+            }
+        }
+        Set<String> keywords = new HashSet<>();
+        frequency.entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(KEYWORDS)
+                .forEach(entry -> keywords.add(entry.getKey()));
+        return keywords;
+    }
+
+    private static Set<String> shingles(String text) {
+        String normalized = NON_TEXT.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("");
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + 2));
+        }
+        return shingles;
+    }
+
+    private static double ratioIn(Set<String> shingles, Set<String> targets) {
+        if (shingles.isEmpty() || targets.isEmpty()) {
+            return 0;
+        }
+        int hits = 0;
+        for (String shingle : shingles) {
+            if (targets.contains(shingle)) {
+                hits++;
+            }
+        }
+        return (double) hits / shingles.size();
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        int intersection = 0;
+        for (String shingle : a) {
+            if (b.contains(shingle)) {
+                intersection++;
+            }
+        }
+        int union = a.size() + b.size() - intersection;
+        return union == 0 ? 0 : (double) intersection / union;
+    }
+}
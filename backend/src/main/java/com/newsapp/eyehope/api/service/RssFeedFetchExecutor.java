@@ -0,0 +1,91 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.RssFeedConfig;
+import com.newsapp.eyehope.api.config.RssFetchConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSS 피드 수집 실행기
+ * 수집 파이프라인의 fetch 워커가 호출하며, 언론사 호스트별 동시 요청 수와 피드별 서킷 브레이커를 적용한다.
+ * 전체 동시 수집 수는 fetch 단계 워커 수(news.pipeline.fetch.workers)로 제한된다.
+ */
+@Component
+public class RssFeedFetchExecutor {
+
+    @FunctionalInterface
+    public interface FeedFetcher<T> {
+        T fetch(RssFeedConfig.FeedInfo feedInfo) throws Exception;
+    }
+
+    private final RssFetchConfig fetchConfig;
+    private final FeedHealthRegistry feedHealthRegistry;
+    private final MeterRegistry registry;
+    private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+    public RssFeedFetchExecutor(RssFetchConfig fetchConfig, FeedHealthRegistry feedHealthRegistry,
+                                MeterRegistry registry) {
+        this.fetchConfig = fetchConfig;
+        this.feedHealthRegistry = feedHealthRegistry;
+        this.registry = registry;
+    }
+
+    /**
+     * 호출 스레드에서 피드 하나를 수집 (호스트별 동시 요청 제한, 서킷 브레이커, 메트릭 적용)
+     */
+    public <T> T fetchOne(RssFeedConfig.FeedInfo feedInfo, FeedFetcher<T> fetcher) throws Exception {
+        // 차단된 피드는 연결을 시도하지 않고 바로 건너뜀
+        feedHealthRegistry.acquire(feedInfo);
+
+        Semaphore hostLimit = hostLimits.computeIfAbsent(hostOf(feedInfo.getUrl()),
+                host -> new Semaphore(fetchConfig.getPerHostConcurrency()));
+
+        long start = System.nanoTime();
+        String result = "success";
+        boolean acquired = false;
+        try {
+            // 대기 중 중단되어도 아래 catch에서 시험 수집 상태를 되돌리도록 try 안에서 대기
+            hostLimit.acquire();
+            acquired = true;
+            T fetched = fetcher.fetch(feedInfo);
+            feedHealthRegistry.recordSuccess(feedInfo);
+            return fetched;
+        } catch (InterruptedException e) {
+            result = "interrupted";
+            // 피드 문제가 아니므로 실패로 세지 않고 시험 수집 상태만 되돌린다
+            feedHealthRegistry.abandon(feedInfo);
+            throw e;
+        } catch (Exception e) {
+            result = "failure";
+            feedHealthRegistry.recordFailure(feedInfo, e);
+            throw e;
+        } finally {
+            if (acquired) {
+                hostLimit.release();
+            }
+            Timer.builder("rss.feed.fetch.time")
+                    .description("RSS 피드별 수집 소요 시간")
+                    .tag("source", String.valueOf(feedInfo.getSource()))
+                    .tag("category", String.valueOf(feedInfo.getCategory()))
+                    .tag("result", result)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase() : url;
+        } catch (Exception e) {
+            return String.valueOf(url);
+        }
+    }
+}
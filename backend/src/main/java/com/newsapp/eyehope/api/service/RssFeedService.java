@@ -1,6 +1,7 @@
 package com.newsapp.eyehope.api.service;
 
 import com.newsapp.eyehope.api.config.RssFeedConfig;
+import com.newsapp.eyehope.api.config.RssFetchConfig;
 import com.newsapp.eyehope.api.dto.PostsRequestDto;
 import com.newsapp.eyehope.api.repository.NewsRepository;
 import com.newsapp.eyehope.api.domain.News;
@@ -12,75 +13,70 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RssFeedService {
 
+    // RSS에 설명(description)이 없는 기사의 내용
+    static final String CONTENT_PLACEHOLDER =
+            "Content not available in RSS feed. Please visit the article URL for full content.";
+
     private final RssFeedConfig.FeedProvider feedProvider;
     private final NewsRepository newsRepository;
+    private final RssFeedFetchExecutor feedFetchExecutor;
+    private final RssFetchConfig fetchConfig;
+    private final FeedFetchCache feedFetchCache;
+    private final StreamingFeedReader streamingFeedReader;
+
     /**
-     * 모든 RSS 피드에서 기사 수집
+     * 다음 수집 예정 시각이 지난 피드 목록
      */
-    public Map<String, List<PostsRequestDto>> fetchAllFeedsByCategory() {
-        Map<String, List<PostsRequestDto>> feedsByCategory = new HashMap<>();
-
-        for (RssFeedConfig.FeedInfo feedInfo : feedProvider.getFeeds()) {
-            try {
-                List<PostsRequestDto> posts = fetchSingleFeed(feedInfo);
-
-                // 카테고리별로 그룹화
-                feedsByCategory.computeIfAbsent(feedInfo.getCategory(), k -> new ArrayList<>())
-                        .addAll(posts);
-
-                log.info("[{}] {} - {}개 기사 수집",
-                        feedInfo.getSource(), feedInfo.getCategory(), posts.size());
-
-            } catch (Exception e) {
-                log.error("[{}] {} 수집 실패: {}",
-                        feedInfo.getSource(), feedInfo.getCategory(), e.getMessage());
-            }
-        }
+    public List<RssFeedConfig.FeedInfo> getDueFeeds() {
+        return feedProvider.getDueFeeds(LocalDateTime.now());
+    }
 
-        // 결과 로깅
-        feedsByCategory.forEach((category, posts) ->
-                log.info("카테고리 [{}]: 총 {}개 기사", category, posts.size())
-        );
+    /**
+     * 수동 수집할 피드 목록 (category가 null이면 전체)
+     * 요청을 받은 노드가 노드 분배와 관계없이 모든 피드를 수집한다.
+     */
+    public List<RssFeedConfig.FeedInfo> getFeeds(String category) {
+        return feedProvider.getAllFeeds().stream()
+                .filter(feedInfo -> category == null || feedInfo.getCategory().equals(category))
+                .toList();
+    }
 
-        return feedsByCategory;
+    /**
+     * 노드 분배와 관계없이 해당 카테고리의 피드가 있는지 여부
+     */
+    public boolean hasCategory(String category) {
+        return feedProvider.getAllFeeds().stream()
+                .anyMatch(feedInfo -> feedInfo.getCategory().equals(category));
     }
 
     /**
-     * 특정 카테고리의 RSS 피드만 수집
+     * 피드 하나를 호출 스레드에서 수집
      */
-    public List<PostsRequestDto> fetchFeedsByCategory(String category) {
-        List<PostsRequestDto> categoryPosts = new ArrayList<>();
-
-        feedProvider.getFeeds().stream()
-                .filter(feedInfo -> feedInfo.getCategory().equals(category))
-                .forEach(feedInfo -> {
-                    try {
-                        List<PostsRequestDto> posts = fetchSingleFeed(feedInfo);
-                        categoryPosts.addAll(posts);
-                        log.info("[{}] {} - {}개 기사 수집",
-                                feedInfo.getSource(), category, posts.size());
-                    } catch (Exception e) {
-                        log.error("수집 실패 - [{}] {}: {}",
-                                feedInfo.getSource(), category, e.getMessage());
-                    }
-                });
-
-        return categoryPosts;
+    public List<PostsRequestDto> fetchFeed(RssFeedConfig.FeedInfo feedInfo) throws Exception {
+        List<PostsRequestDto> posts = feedFetchExecutor.fetchOne(feedInfo, this::fetchSingleFeed);
+        log.info("[{}] {} - {}개 기사 수집",
+                feedInfo.getSource(), feedInfo.getCategory(), posts.size());
+        return posts;
     }
 
     /**
@@ -90,18 +86,91 @@ public class RssFeedService {
             throws Exception {
         List<PostsRequestDto> posts = new ArrayList<>();
 
-        // Rome 라이브러리로 RSS 파싱
-        SyndFeedInput input = new SyndFeedInput();
-        SyndFeed feed = input.build(new XmlReader(new URL(feedInfo.getUrl())));
+        // 느린 언론사가 수집 스레드를 오래 붙잡지 않도록 연결/읽기 타임아웃 지정
+        HttpURLConnection connection = (HttpURLConnection) new URL(feedInfo.getUrl()).openConnection();
+        connection.setConnectTimeout(fetchConfig.getTimeoutMs());
+        connection.setReadTimeout(fetchConfig.getTimeoutMs());
 
-        for (SyndEntry entry : feed.getEntries()) {
-            Long newsId = getCategoryId(feedInfo.getCategory());
+        // 이전 수집 때 받은 검증값으로 조건부 요청
+        FeedFetchCache.Entry cached = feedFetchCache.get(feedInfo.getUrl());
+        if (cached != null) {
+            if (cached.getEtag() != null) {
+                connection.setRequestProperty("If-None-Match", cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                connection.setRequestProperty("If-Modified-Since", cached.getLastModified());
+            }
+        }
+
+        byte[] body;
+        String etag;
+        String lastModified;
+        String contentType;
+        try {
+            if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                feedFetchCache.recordHit(feedInfo, "not_modified");
+                return posts;
+            }
+            try (InputStream in = connection.getInputStream()) {
+                body = in.readAllBytes();
+            }
+            etag = connection.getHeaderField("ETag");
+            lastModified = connection.getHeaderField("Last-Modified");
+            contentType = connection.getContentType();
+        } finally {
+            connection.disconnect();
+        }
+
+        String contentHash = FeedFetchCache.hash(body);
+
+        Set<String> lastSeenUrls = cached != null ? cached.getLastSeenUrls() : Set.of();
+        LocalDateTime lastSeenPublishedAt = cached != null ? cached.getLastSeenPublishedAt() : null;
+
+        // 검증값을 지원하지 않는 서버라도 본문이 그대로면 파싱 생략
+        if (cached != null && contentHash.equals(cached.getContentHash())) {
+            feedFetchCache.put(feedInfo.getUrl(), cached.withValidators(etag, lastModified));
+            feedFetchCache.recordHit(feedInfo, "same_hash");
+            return posts;
+        }
+
+        // 이전 수집에서 본 기사에 도달하면 파싱 중단
+        List<StreamingFeedReader.FeedEntry> entries = new ArrayList<>();
+        StreamingFeedReader.EntryHandler handler = entry -> {
+            if (isAlreadySeen(entry, lastSeenUrls, lastSeenPublishedAt)) {
+                return false;
+            }
+            entries.add(entry);
+            return true;
+        };
+
+        try {
+            streamingFeedReader.read(body, contentType, handler);
+        } catch (StreamingFeedReader.UnsupportedFeedException | XMLStreamException e) {
+            // 스트리밍 파서가 처리하지 못하는 피드는 Rome으로 파싱
+            log.debug("[{}] {} 스트리밍 파싱 불가, Rome으로 재시도: {}",
+                    feedInfo.getSource(), feedInfo.getCategory(), e.getMessage());
+            entries.clear();
+            parseWithRome(body, contentType, handler);
+        }
 
+        // 검증값과 마지막으로 본 기사는 기사가 저장된 뒤에 반영 (commitFeed)
+        LocalDateTime newestPublishedAt = entries.stream()
+                .map(StreamingFeedReader.FeedEntry::getPublishedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(lastSeenPublishedAt);
+        feedFetchCache.stage(feedInfo.getUrl(), new FeedFetchCache.Entry(etag, lastModified, contentHash,
+                newestUrls(entries, newestPublishedAt, lastSeenUrls, lastSeenPublishedAt), newestPublishedAt));
+        feedFetchCache.recordMiss(feedInfo);
+
+        Long newsId = getCategoryId(feedInfo.getCategory());
+
+        for (StreamingFeedReader.FeedEntry entry : entries) {
             PostsRequestDto dto = PostsRequestDto.builder()
                     .source(feedInfo.getSource())  // 언론사 이름 (press 테이블의 name)
                     .title(cleanText(entry.getTitle()))  // 제목
-                    .content(extractDescription(entry))  // 내용 (RSS의 description)
-                    .createdAt(convertToLocalDateTime(entry.getPublishedDate()))  // 발행시간을 LocalDateTime으로
+                    .content(extractDescription(entry.getDescription()))  // 내용 (RSS의 description)
+                    .createdAt(entry.getPublishedAt())  // 발행시간
                     .url(entry.getLink())  // 기사 URL
                     .newsId(newsId)  // News 테이블 ID 설정
                     .build();
@@ -112,6 +181,75 @@ public class RssFeedService {
         return posts;
     }
 
+    /**
+     * 수집한 피드의 검증값과 마지막으로 본 기사 반영 (기사 저장이 끝난 뒤 호출)
+     */
+    public void commitFeed(RssFeedConfig.FeedInfo feedInfo) {
+        feedFetchCache.commit(feedInfo.getUrl());
+    }
+
+    /**
+     * 이전 수집에서 이미 본 기사인지 확인
+     * 마지막 발행 시각과 같은 시각의 기사는 URL로 구분한다.
+     */
+    static boolean isAlreadySeen(StreamingFeedReader.FeedEntry entry,
+                                 Set<String> lastSeenUrls, LocalDateTime lastSeenPublishedAt) {
+        if (entry.getLink() != null && lastSeenUrls.contains(entry.getLink())) {
+            return true;
+        }
+        return lastSeenPublishedAt != null && entry.getPublishedAt() != null
+                && entry.getPublishedAt().isBefore(lastSeenPublishedAt);
+    }
+
+    /**
+     * 다음 수집의 중단 기준이 될 URL - 맨 앞 기사와 가장 늦은 발행 시각의 기사 전부
+     * 새 기사가 이전과 같은 발행 시각이면 이전 URL도 유지한다.
+     */
+    static Set<String> newestUrls(List<StreamingFeedReader.FeedEntry> entries, LocalDateTime newestPublishedAt,
+                                  Set<String> lastSeenUrls, LocalDateTime lastSeenPublishedAt) {
+        if (entries.isEmpty()) {
+            return lastSeenUrls;
+        }
+        Set<String> urls = new HashSet<>();
+        if (entries.get(0).getLink() != null) {
+            urls.add(entries.get(0).getLink());
+        }
+        for (StreamingFeedReader.FeedEntry entry : entries) {
+            if (entry.getLink() != null && newestPublishedAt != null
+                    && newestPublishedAt.equals(entry.getPublishedAt())) {
+                urls.add(entry.getLink());
+            }
+        }
+        if (newestPublishedAt != null && newestPublishedAt.equals(lastSeenPublishedAt)) {
+            urls.addAll(lastSeenUrls);
+        }
+        return Set.copyOf(urls);
+    }
+
+    /**
+     * Rome 라이브러리로 RSS 파싱 (스트리밍 파서 대체 경로)
+     */
+    private void parseWithRome(byte[] body, String contentType, StreamingFeedReader.EntryHandler handler)
+            throws Exception {
+        SyndFeedInput input = new SyndFeedInput();
+        SyndFeed feed;
+        try (XmlReader reader = new XmlReader(new ByteArrayInputStream(body), contentType, true)) {
+            feed = input.build(reader);
+        }
+
+        for (SyndEntry entry : feed.getEntries()) {
+            StreamingFeedReader.FeedEntry feedEntry = StreamingFeedReader.FeedEntry.builder()
+                    .title(entry.getTitle())
+                    .link(entry.getLink())
+                    .description(entry.getDescription() != null ? entry.getDescription().getValue() : null)
+                    .publishedAt(convertToLocalDateTime(entry.getPublishedDate()))
+                    .build();
+            if (!handler.onEntry(feedEntry)) {
+                return;
+            }
+        }
+    }
+
     /**
      * HTML 태그 제거 및 텍스트 정리
      */
@@ -128,15 +266,22 @@ public class RssFeedService {
     }
 
     /**
-     * SyndEntry에서 설명 추출
+     * 기사 설명 추출
      * RSS에서는 content를 제공하지 않으므로 placeholder 값을 반환
      */
-    private String extractDescription(SyndEntry entry) {
-        if (entry.getDescription() != null) {
-            return cleanText(entry.getDescription().getValue());
+    private String extractDescription(String description) {
+        if (description != null) {
+            return cleanText(description);
         }
         // RSS에서 content를 제공하지 않는 경우 placeholder 값 반환
-        return "Content not available in RSS feed. Please visit the article URL for full content.";
+        return CONTENT_PLACEHOLDER;
+    }
+
+    /**
+     * RSS에 설명이 없어 채워 넣은 내용인지 여부 (기사 내용이 아니므로 유사도 계산 등에서 제외)
+     */
+    public static boolean isPlaceholder(String content) {
+        return CONTENT_PLACEHOLDER.equals(content);
     }
 
     /**
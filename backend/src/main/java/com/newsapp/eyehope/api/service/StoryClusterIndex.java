@@ -0,0 +1,172 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.StoryClusterConfig;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.util.MinHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 기사 MinHash 서명의 LSH 인덱스 (슬라이딩 윈도우)
+ * 128개 서명 값을 2개씩 64개 밴드로 나누어 밴드가 하나라도 같은 클러스터 대표 기사만 후보로 비교한다.
+ * 자카드 유사도 0.3 이상인 쌍은 99% 이상이 후보가 되고 무관한 기사(0.02)는 3% 정도만 후보가 된다.
+ * 새 기사는 멤버가 아닌 대표 기사와만 비교하므로, 멤버를 거쳐 다른 사건으로 번지듯 묶이지 않는다.
+ * 노드마다 따로 유지하므로 같은 사건이 다른 노드에서 수집되면 별도 클러스터가 될 수 있다.
+ */
+@Slf4j
+@Component
+public class StoryClusterIndex {
+
+    private static final int ROWS_PER_BAND = 2;
+    private static final int BANDS = MinHash.SIGNATURE_SIZE / ROWS_PER_BAND;
+
+    private record Entry(long postId, int[] signature, long clusterId, LocalDateTime addedAt) {
+    }
+
+    private final StoryClusterConfig config;
+    private final PostsRepository postsRepository;
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, List<Entry>>[] bands = new Map[BANDS];
+    private final Deque<Entry> window = new ArrayDeque<>();
+
+    private final Counter newClusterCounter;
+    private final Counter joinedCounter;
+
+    public StoryClusterIndex(StoryClusterConfig config, PostsRepository postsRepository, MeterRegistry registry) {
+        this.config = config;
+        this.postsRepository = postsRepository;
+        for (int i = 0; i < BANDS; i++) {
+            bands[i] = new HashMap<>();
+        }
+
+        this.newClusterCounter = Counter.builder("news.cluster.assign")
+                .tag("result", "new")
+                .description("새 스토리 클러스터로 분류된 기사 수")
+                .register(registry);
+        this.joinedCounter = Counter.builder("news.cluster.assign")
+                .tag("result", "joined")
+                .description("기존 스토리 클러스터에 합쳐진 기사 수")
+                .register(registry);
+        Gauge.builder("news.cluster.index.size", this, StoryClusterIndex::size)
+                .description("스토리 클러스터 인덱스에 있는 기사 수")
+                .register(registry);
+    }
+
+    /**
+     * 재시작 후에도 진행 중인 사건을 이어서 묶을 수 있도록 윈도우 안의 기사를 다시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minusMinutes(config.getWindowMinutes());
+            List<Object[]> rows = postsRepository.findRecentMinhashes(since);
+            synchronized (this) {
+                for (Object[] row : rows) {
+                    int[] signature = MinHash.fromBytes((byte[]) row[1]);
+                    if (signature != null) {
+                        add(new Entry((Long) row[0], signature, (Long) row[2], (LocalDateTime) row[3]));
+                    }
+                }
+            }
+            log.info("스토리 클러스터 인덱스 적재: {}건", rows.size());
+        } catch (Exception e) {
+            log.warn("스토리 클러스터 인덱스 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기사를 인덱스에 추가하고 클러스터 ID를 반환
+     * 가장 가까운 대표 기사가 기준 이상으로 비슷하면 그 클러스터에 합류하고, 없으면 자신이 새 클러스터의 대표가 된다.
+     * @return 클러스터 ID (대표 기사의 ID)
+     */
+    public synchronized long assign(long postId, int[] signature) {
+        LocalDateTime now = LocalDateTime.now();
+        evictOlderThan(now.minusMinutes(config.getWindowMinutes()));
+
+        Entry nearest = null;
+        double nearestSimilarity = -1;
+        for (int band = 0; band < BANDS; band++) {
+            for (Entry candidate : bands[band].getOrDefault(bandKey(signature, band), List.of())) {
+                double similarity = MinHash.similarity(signature, candidate.signature());
+                if (similarity >= config.getSimilarityThreshold() && similarity > nearestSimilarity) {
+                    nearest = candidate;
+                    nearestSimilarity = similarity;
+                }
+            }
+        }
+
+        long clusterId = nearest != null ? nearest.clusterId() : postId;
+        add(new Entry(postId, signature, clusterId, now));
+        (nearest != null ? joinedCounter : newClusterCounter).increment();
+        return clusterId;
+    }
+
+    /**
+     * 저장이 롤백된 기사를 인덱스에서 제거
+     */
+    public synchronized void forget(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        List<Entry> removed = new ArrayList<>();
+        window.removeIf(entry -> postIds.contains(entry.postId()) && removed.add(entry));
+        removed.forEach(this::removeFromBands);
+    }
+
+    public synchronized int size() {
+        return window.size();
+    }
+
+    private void add(Entry entry) {
+        window.addLast(entry);
+        if (entry.postId() != entry.clusterId()) {
+            // 멤버는 후보로 쓰지 않는다 (윈도우에는 남겨 크기와 롤백 처리에 사용)
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            bands[band].computeIfAbsent(bandKey(entry.signature(), band), k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private void evictOlderThan(LocalDateTime cutoff) {
+        while (!window.isEmpty() && window.peekFirst().addedAt().isBefore(cutoff)) {
+            removeFromBands(window.pollFirst());
+        }
+    }
+
+    private void removeFromBands(Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.signature(), band);
+            List<Entry> bucket = bands[band].get(key);
+            if (bucket != null) {
+                bucket.removeIf(candidate -> candidate == entry);
+                if (bucket.isEmpty()) {
+                    bands[band].remove(key);
+                }
+            }
+        }
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        int offset = band * ROWS_PER_BAND;
+        return ((long) signature[offset] << 32) | (signature[offset + 1] & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,243 @@
+package com.newsapp.eyehope.api.service;
+
+import com.rometools.rome.io.XmlReader;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * StAX 기반 RSS 2.0 / Atom 스트리밍 리더
+ * 전체 DOM을 만들지 않고 기사를 하나씩 전달하며, 호출자가 false를 반환하면 즉시 파싱을 멈춘다.
+ * 지원하지 않는 형식은 UnsupportedFeedException을 던지므로 호출자가 Rome으로 대신 파싱해야 한다.
+ */
+@Component
+public class StreamingFeedReader {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+
+    private static final List<DateTimeFormatter> LOCAL_DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss")
+    );
+
+    @Getter
+    @Builder
+    public static class FeedEntry {
+        private final String title;
+        private final String link;
+        private final String description;
+        private final LocalDateTime publishedAt;
+    }
+
+    @FunctionalInterface
+    public interface EntryHandler {
+        /**
+         * @return 다음 기사를 계속 읽으려면 true, 파싱을 멈추려면 false
+         */
+        boolean onEntry(FeedEntry entry);
+    }
+
+    public static class UnsupportedFeedException extends Exception {
+        public UnsupportedFeedException(String message) {
+            super(message);
+        }
+    }
+
+    private final XMLInputFactory inputFactory;
+
+    public StreamingFeedReader() {
+        this.inputFactory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * 피드 본문을 스트리밍으로 읽으며 기사마다 handler 호출
+     * @param body 피드 원문
+     * @param contentType HTTP Content-Type (인코딩 판별용, null 가능)
+     */
+    public void read(byte[] body, String contentType, EntryHandler handler)
+            throws IOException, XMLStreamException, UnsupportedFeedException {
+        // 인코딩 판별은 Rome의 XmlReader에 맡긴다 (EUC-KR 피드 대응)
+        try (XmlReader xmlReader = new XmlReader(new ByteArrayInputStream(body), contentType, true)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(xmlReader);
+            try {
+                reader.nextTag();
+                String root = reader.getLocalName();
+                if ("rss".equals(root)) {
+                    readEntries(reader, "item", false, handler);
+                } else if ("feed".equals(root) && ATOM_NS.equals(reader.getNamespaceURI())) {
+                    readEntries(reader, "entry", true, handler);
+                } else {
+                    throw new UnsupportedFeedException("지원하지 않는 피드 형식: " + root);
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private void readEntries(XMLStreamReader reader, String entryElement, boolean atom, EntryHandler handler)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && entryElement.equals(reader.getLocalName())) {
+                FeedEntry entry = atom ? readAtomEntry(reader) : readRssItem(reader);
+                if (!handler.onEntry(entry)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private FeedEntry readRssItem(XMLStreamReader reader) throws XMLStreamException {
+        FeedEntry.FeedEntryBuilder builder = FeedEntry.builder();
+        String pubDate = null;
+        String dcDate = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String name = reader.getLocalName();
+            String ns = reader.getNamespaceURI();
+            boolean plain = ns == null || ns.isEmpty();
+
+            if (plain && "title".equals(name)) {
+                builder.title(readText(reader));
+            } else if (plain && "link".equals(name)) {
+                builder.link(readText(reader));
+            } else if (plain && "description".equals(name)) {
+                builder.description(readText(reader));
+            } else if (plain && "pubDate".equals(name)) {
+                pubDate = readText(reader);
+            } else if (DC_NS.equals(ns) && "date".equals(name)) {
+                dcDate = readText(reader);
+            } else {
+                readText(reader);
+            }
+        }
+
+        return builder.publishedAt(parseDate(pubDate != null ? pubDate : dcDate)).build();
+    }
+
+    private FeedEntry readAtomEntry(XMLStreamReader reader) throws XMLStreamException {
+        FeedEntry.FeedEntryBuilder builder = FeedEntry.builder();
+        String published = null;
+        String updated = null;
+        String summary = null;
+        String content = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "entry".equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String name = reader.getLocalName();
+            if (!ATOM_NS.equals(reader.getNamespaceURI())) {
+                readText(reader);
+                continue;
+            }
+
+            switch (name) {
+                case "title" -> builder.title(readText(reader));
+                case "link" -> {
+                    String rel = reader.getAttributeValue(null, "rel");
+                    String href = reader.getAttributeValue(null, "href");
+                    if (rel == null || "alternate".equals(rel)) {
+                        builder.link(href);
+                    }
+                    readText(reader);
+                }
+                case "summary" -> summary = readText(reader);
+                case "content" -> content = readText(reader);
+                case "published" -> published = readText(reader);
+                case "updated" -> updated = readText(reader);
+                default -> readText(reader);
+            }
+        }
+
+        return builder
+                .description(summary != null ? summary : content)
+                .publishedAt(parseDate(published != null ? published : updated))
+                .build();
+    }
+
+    /**
+     * 현재 요소의 하위 텍스트를 모두 읽고 종료 태그 위치로 이동
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(reader.getText());
+                default -> { }
+            }
+        }
+        return text.toString().trim();
+    }
+
+    /**
+     * RFC 1123 / ISO-8601 / 로컬 시각 형식의 발행 시각 파싱
+     * @return 시스템 시간대 기준 LocalDateTime, 파싱할 수 없으면 null
+     */
+    static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+
+        try {
+            return ZonedDateTime.parse(text, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .withZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+            // 다음 형식 시도
+        }
+        try {
+            return OffsetDateTime.parse(text)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+            // 다음 형식 시도
+        }
+        for (DateTimeFormatter format : LOCAL_DATE_FORMATS) {
+            try {
+                return LocalDateTime.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+}
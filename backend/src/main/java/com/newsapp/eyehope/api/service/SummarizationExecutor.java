@@ -0,0 +1,141 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * LLM 요약 호출 실행기
+ * 제공자(OpenRouter, Gemini, 로컬 LLM)마다 동시 호출 수를 따로 제한하고 여러 요약을 동시에 진행한다.
+ * 호출은 비동기(LlmHttpClient)이므로 응답을 기다리는 동안 스레드를 점유하지 않으며,
+ * 결과는 끝나는 순서대로 CompletableFuture로 전달되어 한 건이 실패하거나 오래 걸려도 다른 요약은 계속 진행된다.
+ * 제공자의 동시 호출 수가 가득 차면 submit이 블록되어 요약 단계로 배압이 전파된다.
+ */
+@Slf4j
+@Component
+public class SummarizationExecutor {
+
+    // 처리량 계산 구간 (초)
+    private static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    /**
+     * 제공자별 실행 레인
+     */
+    private static class Lane {
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter successCounter;
+        private final Counter failureCounter;
+
+        private Lane(String provider, int concurrency, MeterRegistry registry) {
+            this.permits = new Semaphore(concurrency);
+
+            Gauge.builder("news.summarize.inflight", inFlight, AtomicInteger::get)
+                    .tag("provider", provider)
+                    .description("제공자별 진행 중인 요약 호출 수")
+                    .register(registry);
+            this.successCounter = Counter.builder("news.summarize.completed")
+                    .tag("provider", provider)
+                    .tag("result", "success")
+                    .description("제공자별 완료된 요약 호출 수")
+                    .register(registry);
+            this.failureCounter = Counter.builder("news.summarize.completed")
+                    .tag("provider", provider)
+                    .tag("result", "failure")
+                    .description("제공자별 완료된 요약 호출 수")
+                    .register(registry);
+        }
+    }
+
+    private final SummarizationConfig config;
+    private final MeterRegistry registry;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    // 최근 1분 처리량 계산용 초 단위 버킷
+    private final long[] bucketSeconds = new long[THROUGHPUT_WINDOW_SECONDS];
+    private final int[] bucketCounts = new int[THROUGHPUT_WINDOW_SECONDS];
+
+    public SummarizationExecutor(SummarizationConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+
+        Gauge.builder("news.summarize.throughput", this, SummarizationExecutor::summariesPerMinute)
+                .description("최근 1분간 성공한 요약 수 (건/분)")
+                .register(registry);
+    }
+
+    /**
+     * 제공자 레인에서 비동기 요약 호출 시작
+     * 동시 호출 수가 가득 차 있으면 자리가 날 때까지 대기하고, 호출이 끝나면(성공/실패) 자리를 반납한다.
+     * @param call 호출을 시작하고 결과 future를 반환하는 함수
+     * @return 호출 결과
+     */
+    public <T> CompletableFuture<T> submit(String provider, Supplier<CompletableFuture<T>> call)
+            throws InterruptedException {
+        Lane lane = laneOf(provider);
+        lane.permits.acquire();
+        lane.inFlight.incrementAndGet();
+
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        // 다음 호출이 바로 시작될 수 있도록 결과를 넘기기 전에 자리를 반납
+        return started.whenComplete((result, error) -> {
+            lane.inFlight.decrementAndGet();
+            lane.permits.release();
+            if (error == null) {
+                lane.successCounter.increment();
+                recordCompletion();
+            } else {
+                lane.failureCounter.increment();
+            }
+        });
+    }
+
+    public int getInFlight(String provider) {
+        Lane lane = lanes.get(provider);
+        return lane != null ? lane.inFlight.get() : 0;
+    }
+
+    public int getAvailablePermits(String provider) {
+        return laneOf(provider).permits.availablePermits();
+    }
+
+    private Lane laneOf(String provider) {
+        return lanes.computeIfAbsent(provider, p -> new Lane(p, config.getConcurrency(p), registry));
+    }
+
+    private synchronized void recordCompletion() {
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % THROUGHPUT_WINDOW_SECONDS);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            bucketCounts[index] = 0;
+        }
+        bucketCounts[index]++;
+    }
+
+    private synchronized double summariesPerMinute() {
+        long now = System.currentTimeMillis() / 1000;
+        int total = 0;
+        for (int i = 0; i < THROUGHPUT_WINDOW_SECONDS; i++) {
+            if (now - bucketSeconds[i] < THROUGHPUT_WINDOW_SECONDS) {
+                total += bucketCounts[i];
+            }
+        }
+        return total * 60.0 / THROUGHPUT_WINDOW_SECONDS;
+    }
+}
@@ -0,0 +1,35 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 요약에 사용할 수 있는 LLM 제공자
+ * 이름은 SummarizationConfig의 제공자 상수(openrouter, gemini, local)와 같으며 SummarizationExecutor 레인 이름으로도 쓰인다.
+ */
+public interface SummarizationProvider {
+
+    String getName();
+
+    String getModel();
+
+    /**
+     * 프롬프트로 텍스트 생성 (응답을 기다리는 동안 스레드를 점유하지 않음)
+     * @return 생성 결과. 호출 실패, 오류 응답, 빈 응답은 LlmProviderException으로 완료된다.
+     */
+    CompletableFuture<LlmCompletion> completeAsync(String prompt);
+
+    /**
+     * 응답을 받을 때까지 기다리는 호출
+     * @throws LlmProviderException 호출 실패, 오류 응답, 빈 응답
+     */
+    default LlmCompletion complete(String prompt) {
+        try {
+            return completeAsync(prompt).join();
+        } catch (CompletionException e) {
+            throw LlmProviderException.from(getName(), e);
+        }
+    }
+}
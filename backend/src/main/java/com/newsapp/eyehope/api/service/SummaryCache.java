@@ -0,0 +1,208 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.SummaryCacheConfig;
+import com.newsapp.eyehope.api.domain.SummaryCacheEntry;
+import com.newsapp.eyehope.api.repository.SummaryCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 요약 결과 캐시 (메모리 LRU + summary_cache 테이블)
+ * 같은 본문이 URL 변형, 저장 실패 후 재수집, 다른 언론사 전재 기사로 다시 들어와도 LLM을 한 번만 호출하도록 한다.
+ * 키에 프롬프트 버전과 모델을 포함하므로 프롬프트나 모델을 바꾸면 기존 요약은 자연히 쓰이지 않는다.
+ * 메모리 적중은 DB에 기록하지 않으므로 hit_count / last_hit_at은 DB에서 찾은 경우만 반영된다.
+ */
+@Slf4j
+@Component
+public class SummaryCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private record Entry(String summary, int tokens, long latencyMs) {
+    }
+
+    private final SummaryCacheConfig config;
+    private final SummaryCacheRepository summaryCacheRepository;
+    private final MeterRegistry registry;
+
+    // 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 항목이 앞)
+    private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryChars;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+    private final Counter tokensSavedCounter;
+    private final Counter timeSavedCounter;
+
+    public SummaryCache(SummaryCacheConfig config, SummaryCacheRepository summaryCacheRepository,
+                        MeterRegistry registry) {
+        this.config = config;
+        this.summaryCacheRepository = summaryCacheRepository;
+        this.registry = registry;
+
+        this.tokensSavedCounter = Counter.builder("news.summary.cache.tokens.saved")
+                .description("요약 캐시 적중으로 절약한 LLM 토큰 수")
+                .register(registry);
+        this.timeSavedCounter = Counter.builder("news.summary.cache.time.saved")
+                .description("요약 캐시 적중으로 절약한 LLM 호출 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("news.summary.cache.hit.ratio", this, SummaryCache::hitRatio)
+                .description("요약 캐시 적중률 (기동 후 누적)")
+                .register(registry);
+        Gauge.builder("news.summary.cache.memory.entries", this, SummaryCache::memoryEntries)
+                .description("메모리 요약 캐시 항목 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 키 - (프롬프트 버전, 모델, 정규화한 본문)의 SHA-256
+     * 본문은 유니코드 정규화(NFKC) 후 연속 공백을 하나로 줄여 공백/전각 문자 차이만 있는 본문을 같은 키로 본다.
+     */
+    public String keyOf(String promptVersion, String model, String text) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC)).replaceAll(" ").trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((promptVersion + "\n" + model + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 본문을 캐시 키로 써도 되는지 여부
+     * 키에 제목이 없으므로 짧은 본문은 서로 다른 기사끼리 같은 키가 되어 다른 기사의 요약을 돌려줄 수 있다.
+     */
+    public boolean isCacheable(String text) {
+        return config.isEnabled() && text != null && text.strip().length() >= config.getMinContentLength();
+    }
+
+    /**
+     * 저장된 요약 조회 (메모리 → DB 순)
+     * @return 없으면 null
+     */
+    public String get(String key) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        lookups.incrementAndGet();
+
+        Entry entry;
+        synchronized (this) {
+            entry = memory.get(key);
+        }
+        if (entry != null) {
+            recordHit("memory", entry);
+            return entry.summary();
+        }
+
+        try {
+            Optional<SummaryCacheEntry> stored = summaryCacheRepository.findById(key);
+            if (stored.isPresent()) {
+                SummaryCacheEntry row = stored.get();
+                entry = new Entry(row.getSummary(), row.getPromptTokens() + row.getCompletionTokens(),
+                        row.getLatencyMs());
+                remember(key, entry);
+                summaryCacheRepository.recordHit(key);
+                recordHit("db", entry);
+                return entry.summary();
+            }
+        } catch (Exception e) {
+            log.debug("요약 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        countRequest("miss");
+        return null;
+    }
+
+    /**
+     * 새 요약 저장 (정상 요약만 저장해야 한다)
+     * @param latencyMs 요약 생성에 걸린 시간
+     */
+    public void put(String key, String promptVersion, LlmCompletion completion, long latencyMs) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        remember(key, new Entry(completion.text(), completion.totalTokens(), latencyMs));
+        try {
+            summaryCacheRepository.insertIfAbsent(key, promptVersion, completion.model(), completion.text(),
+                    completion.promptTokens(), completion.completionTokens(), latencyMs);
+        } catch (Exception e) {
+            log.debug("요약 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오래 사용하지 않은 DB 항목 정리
+     */
+    @Scheduled(initialDelayString = "${news.summary-cache.cleanup-ms:3600000}",
+            fixedDelayString = "${news.summary-cache.cleanup-ms:3600000}")
+    public void cleanup() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            int removed = summaryCacheRepository.deleteUnusedSince(config.getTtlDays());
+            if (removed > 0) {
+                log.debug("오래된 요약 캐시 {}건 삭제", removed);
+            }
+        } catch (Exception e) {
+            log.warn("요약 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메모리 캐시에 추가하고 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+     */
+    private synchronized void remember(String key, Entry entry) {
+        Entry previous = memory.put(key, entry);
+        memoryChars += entry.summary().length() - (previous != null ? previous.summary().length() : 0);
+
+        Iterator<Map.Entry<String, Entry>> eldest = memory.entrySet().iterator();
+        while (memoryChars > config.getMemoryMaxChars() && eldest.hasNext()) {
+            memoryChars -= eldest.next().getValue().summary().length();
+            eldest.remove();
+        }
+    }
+
+    private void recordHit(String tier, Entry entry) {
+        hits.incrementAndGet();
+        tokensSavedCounter.increment(entry.tokens());
+        timeSavedCounter.increment(entry.latencyMs());
+        countRequest(tier);
+    }
+
+    private void countRequest(String result) {
+        Counter.builder("news.summary.cache.requests")
+                .description("요약 캐시 조회 결과 (memory, db: 적중 / miss: LLM 호출)")
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    private synchronized int memoryEntries() {
+        return memory.size();
+    }
+
+    private double hitRatio() {
+        long total = lookups.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+}
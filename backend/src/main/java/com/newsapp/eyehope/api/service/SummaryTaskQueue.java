@@ -0,0 +1,185 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.NodeConfig;
+import com.newsapp.eyehope.api.config.SummaryQueueConfig;
+import com.newsapp.eyehope.api.domain.SummaryTask;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepository;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Postgres 테이블 기반 요약 작업 큐
+ * 새 기사는 저장과 같은 트랜잭션에서 작업으로 등록되므로, 요약 전에 프로세스가 재시작되어도
+ * 임대가 만료된 뒤 어느 노드의 워커든 다시 가져가 처리한다.
+ * 이 노드가 처리 중인 작업은 주기적으로 임대를 연장하므로 LLM 대기가 길어져도 다른 워커가 가져가지 않으며,
+ * 완료 / 실패는 가져갈 때의 시도 번호로 확인해 다시 가져간 작업의 결과를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class SummaryTaskQueue {
+
+    private final SummaryTaskRepository summaryTaskRepository;
+    private final SummaryQueueConfig config;
+    private final MeterRegistry registry;
+    private final String nodeId;
+
+    private final AtomicLong backlog = new AtomicLong();
+    // 이 노드가 처리 중인 작업 (임대 연장 대상)
+    private final Map<Long, ClaimedTask> held = new ConcurrentHashMap<>();
+
+    public SummaryTaskQueue(SummaryTaskRepository summaryTaskRepository, SummaryQueueConfig config,
+                            NodeConfig nodeConfig, MeterRegistry registry) {
+        this.summaryTaskRepository = summaryTaskRepository;
+        this.config = config;
+        this.registry = registry;
+        this.nodeId = nodeConfig.getNodeId();
+
+        Gauge.builder("news.summary.queue.backlog", backlog, AtomicLong::get)
+                .description("요약 대기 중인 작업 수 (마지막 조회 기준)")
+                .register(registry);
+        Gauge.builder("news.summary.queue.held", held, Map::size)
+                .description("이 노드가 임대해 처리 중인 작업 수")
+                .register(registry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 새 기사의 작업을 이 노드가 임대한 상태로 등록 (기사 저장 트랜잭션 안에서 호출)
+     */
+    public List<ClaimedTask> enqueueClaimed(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        List<ClaimedTask> tasks = summaryTaskRepository.enqueueClaimed(postIds, nodeId, config.getLeaseSeconds());
+        counter("enqueued").increment(tasks.size());
+        hold(tasks);
+        return tasks;
+    }
+
+    /**
+     * 재시도 대기 중이거나 임대가 만료된 작업을 가져온다.
+     */
+    public List<ClaimedTask> claim() {
+        List<Long> buried = summaryTaskRepository.buryExpired(config.getMaxAttempts());
+        if (!buried.isEmpty()) {
+            log.warn("재시도 횟수를 초과한 요약 작업 {}건을 DEAD 처리", buried.size());
+            counter("dead").increment(buried.size());
+            enqueueSuccessors(buried);
+        }
+
+        List<ClaimedTask> tasks = summaryTaskRepository.claim(
+                nodeId, config.getClaimBatchSize(), config.getLeaseSeconds(), config.getMaxAttempts());
+        counter("claimed").increment(tasks.size());
+        hold(tasks);
+        backlog.set(summaryTaskRepository.countByStatus(SummaryTask.Status.PENDING));
+        return tasks;
+    }
+
+    /**
+     * 요약 저장 트랜잭션 안에서 완료 처리
+     * 임대가 만료되어 다시 가져간 작업은 새로 가져간 쪽이 완료 처리한다.
+     */
+    public void complete(Collection<ClaimedTask> tasks) {
+        int done = summaryTaskRepository.markDone(tasks);
+        release(tasks);
+        counter("done").increment(done);
+        if (done < tasks.size()) {
+            log.warn("임대가 만료된 요약 작업 {}건은 완료 처리하지 않음", tasks.size() - done);
+            counter("stale").increment(tasks.size() - done);
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 임대 연장. 이미 다시 가져간 작업은 연장 대상에서 뺀다.
+     */
+    public void renewLeases() {
+        List<ClaimedTask> tasks = List.copyOf(held.values());
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<ClaimedTask> lost = summaryTaskRepository.renewLeases(tasks, config.getLeaseSeconds());
+        release(lost);
+        if (!lost.isEmpty()) {
+            log.warn("임대를 연장하지 못한 요약 작업 {}건 (이미 다시 가져갔거나 끝남)", lost.size());
+            counter("lost").increment(lost.size());
+        }
+    }
+
+    /**
+     * 처리가 끝났거나 중단된 작업을 임대 연장 대상에서 뺀다 (상태는 바꾸지 않으므로 중단된 작업은 임대 만료 후 다시 처리된다)
+     */
+    public void release(Collection<ClaimedTask> tasks) {
+        tasks.forEach(task -> held.remove(task.id(), task));
+    }
+
+    private void hold(Collection<ClaimedTask> tasks) {
+        tasks.forEach(task -> held.put(task.id(), task));
+    }
+
+    /**
+     * 새 클러스터 멤버 중 클러스터에 살아 있는 요약 작업이 없는 기사에 작업 등록 (기사 저장 트랜잭션 안에서 호출)
+     */
+    public void enqueueOrphanMembers(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        int enqueued = summaryTaskRepository.enqueueClusterSuccessors(memberIds);
+        counter("enqueued").increment(enqueued);
+    }
+
+    /**
+     * 실패 처리 - 재시도 횟수가 남아 있으면 시도 횟수에 비례해 늦춰 다시 대기시킨다.
+     */
+    public void fail(ClaimedTask task, String reason) {
+        release(List.of(task));
+        try {
+            SummaryTask.Status status = summaryTaskRepository.markFailed(
+                    task, reason, config.getMaxAttempts(), config.getRetryBackoffSeconds());
+            if (status == SummaryTask.Status.DEAD) {
+                log.warn("요약 작업 {} 재시도 횟수 초과로 DEAD 처리: {}", task.id(), reason);
+                counter("dead").increment();
+                enqueueSuccessors(List.of(task.postId()));
+            } else if (status != null) {
+                counter("retry").increment();
+            }
+        } catch (Exception e) {
+            // 상태 변경에 실패해도 임대가 만료되면 다시 처리된다
+            log.error("요약 작업 {} 실패 처리 중 오류 발생: {}", task.id(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DEAD가 된 기사의 클러스터 멤버 중 하나가 대신 요약을 받도록 작업 등록
+     */
+    private void enqueueSuccessors(List<Long> deadPostIds) {
+        try {
+            int enqueued = summaryTaskRepository.enqueueClusterSuccessors(deadPostIds);
+            if (enqueued > 0) {
+                log.info("DEAD 처리된 대표 기사 대신 클러스터 멤버 {}건에 요약 작업 등록", enqueued);
+                counter("promoted").increment(enqueued);
+            }
+        } catch (Exception e) {
+            log.error("클러스터 멤버 요약 작업 등록 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("news.summary.queue.tasks")
+                .description("요약 작업 큐 상태 변경 건수")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.newsapp.eyehope.api.util;
+
+/**
+ * LLM 토큰 수 추정.
+ * 제공자마다 토크나이저가 달라 정확한 값은 응답의 사용량으로만 알 수 있으므로, 요청 전 한도 계산용으로 어림합니다.
+ * 한글은 대략 한 글자에 1토큰, 그 밖의 문자(영문, 숫자, 문장 부호)는 4글자에 1토큰으로 계산하며 공백은 세지 않습니다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int hangul = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isHangul(c)) {
+                hangul++;
+            } else {
+                other++;
+            }
+        }
+        return hangul + (other + 3) / 4;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
@@ -0,0 +1,151 @@
+package com.newsapp.eyehope.api.util;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기사 URL 정규화 및 64비트 지문 계산.
+ * 스킴/호스트 대소문자, www 접두사, 기본 포트, 프래그먼트, 추적용 쿼리 파라미터 차이를 무시하여
+ * 같은 기사를 가리키는 URL이 같은 지문을 갖도록 합니다.
+ * 모든 호스트에서 빼는 파라미터는 널리 쓰이는 광고/분석 추적용으로 한정하고,
+ * from, ref처럼 사이트에 따라 기사를 구분할 수도 있는 파라미터는 호스트별 설정(UrlFingerprintConfig)으로만 뺍니다.
+ */
+public final class UrlFingerprint {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "gbraid", "wbraid", "msclkid", "yclid", "igshid", "mc_cid", "mc_eid"
+    );
+
+    // 호스트(www 제외, 소문자) -> 추가로 뺄 파라미터. 하위 도메인에도 적용된다.
+    private static volatile Map<String, Set<String>> hostTrackingParams = Map.of();
+
+    private UrlFingerprint() {
+    }
+
+    /**
+     * 호스트별로 추가로 뺄 추적용 파라미터 설정
+     * 설정을 바꾸면 이미 저장된 기사의 url_hash와 지문이 달라질 수 있다.
+     */
+    public static void setHostTrackingParams(Map<String, Set<String>> params) {
+        hostTrackingParams = Map.copyOf(params);
+    }
+
+    /**
+     * 정규화된 URL의 SHA-256 앞 8바이트
+     * @return URL이 비어 있으면 null
+     */
+    public static Long of(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        byte[] digest = sha256(canonicalize(url));
+        return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+    }
+
+    /**
+     * 지문 계산에 사용하는 정규화 URL
+     */
+    public static String canonicalize(String url) {
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = URI.create(trimmed);
+        } catch (IllegalArgumentException e) {
+            // 공백 등으로 URI 파싱이 불가능하면 원문 그대로 사용
+            return trimmed;
+        }
+        if (uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+
+        // http/https는 같은 기사로 취급
+        String scheme = uri.getScheme() == null ? "https" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if ("http".equals(scheme)) {
+            scheme = "https";
+        }
+
+        int port = uri.getPort();
+        boolean defaultPort = port == -1 || port == 80 || port == 443;
+
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        } else if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        StringBuilder canonical = new StringBuilder()
+                .append(scheme).append("://").append(host);
+        if (!defaultPort) {
+            canonical.append(':').append(port);
+        }
+        canonical.append(path);
+
+        String query = canonicalQuery(uri.getRawQuery(), hostParams(host));
+        if (!query.isEmpty()) {
+            canonical.append('?').append(query);
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * 호스트 또는 상위 도메인에 설정된 추가 추적용 파라미터
+     */
+    private static Set<String> hostParams(String host) {
+        Map<String, Set<String>> params = hostTrackingParams;
+        if (params.isEmpty()) {
+            return Set.of();
+        }
+        String domain = host;
+        while (true) {
+            Set<String> names = params.get(domain);
+            if (names != null) {
+                return names;
+            }
+            int dot = domain.indexOf('.');
+            if (dot < 0) {
+                return Set.of();
+            }
+            domain = domain.substring(dot + 1);
+        }
+    }
+
+    /**
+     * 추적용 파라미터를 제거하고 나머지를 정렬한 쿼리 문자열
+     */
+    private static String canonicalQuery(String rawQuery, Set<String> hostParams) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) continue;
+            String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name) || hostParams.contains(name)) continue;
+            params.add(param);
+        }
+        params.sort(null);
+        return String.join("&", params);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.ArticleCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ArticleDiskCacheTest {
+
+    private static final String URL = "https://news.example.com/article/1";
+
+    @TempDir
+    Path dir;
+
+    private ArticleDiskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ArticleCacheConfig config = new ArticleCacheConfig();
+        ReflectionTestUtils.setField(config, "enabled", true);
+        ReflectionTestUtils.setField(config, "dir", dir.toString());
+        ReflectionTestUtils.setField(config, "ttlHours", 72L);
+        ReflectionTestUtils.setField(config, "maxSizeMb", 16L);
+        cache = new ArticleDiskCache(config, new SimpleMeterRegistry());
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("같은 규칙 버전이면 저장한 본문을 그대로 돌려준다")
+    void textRoundTrip() {
+        cache.putText(URL, "rule-v1", "첫 줄\n둘째 줄");
+
+        assertEquals("첫 줄\n둘째 줄", cache.getText(URL, "rule-v1"));
+        // 정규화 URL이 같으면 같은 항목
+        assertEquals("첫 줄\n둘째 줄", cache.getText("http://www.news.example.com/article/1?utm_source=rss", "rule-v1"));
+    }
+
+    @Test
+    @DisplayName("규칙이 바뀌면(버전이 다르면) 저장된 본문을 쓰지 않는다")
+    void staleRuleVersionIsMiss() {
+        cache.putText(URL, "rule-v1", "이전 규칙으로 추출한 본문");
+
+        assertNull(cache.getText(URL, "rule-v2"));
+
+        cache.putText(URL, "rule-v2", "새 규칙으로 추출한 본문");
+        assertEquals("새 규칙으로 추출한 본문", cache.getText(URL, "rule-v2"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.ArticleFetchConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.select.QueryParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleExtractorTest {
+
+    private static final String URL = "https://news.example.com/article/1";
+    private static final String RULE_VERSION = "rule-v1";
+
+    private ArticleHttpClient articleHttpClient;
+    private ArticleFetchConfig articleFetchConfig;
+    private ArticleDiskCache articleDiskCache;
+    private ExtractionRuleRegistry extractionRuleRegistry;
+    private ArticleExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        articleHttpClient = mock(ArticleHttpClient.class);
+        articleFetchConfig = new ArticleFetchConfig();
+        ReflectionTestUtils.setField(articleFetchConfig, "maxBodyBytes", 2097152);
+        ReflectionTestUtils.setField(articleFetchConfig, "streamMaxBytes", 1048576);
+        articleDiskCache = mock(ArticleDiskCache.class);
+        extractionRuleRegistry = mock(ExtractionRuleRegistry.class);
+        when(extractionRuleRegistry.ruleFor(anyString())).thenReturn(ExtractionRuleRegistry.GENERIC);
+        extractor = new ArticleExtractor(articleHttpClient, articleFetchConfig, articleDiskCache,
+                extractionRuleRegistry, new SimpleMeterRegistry());
+    }
+
+    private void serve(String html) throws Exception {
+        when(articleHttpClient.fetch(anyString(), anyLong(), any())).thenAnswer(invocation -> {
+            ArticleHttpClient.BodyReader<?> reader = invocation.getArgument(2);
+            ArticleHttpClient.Body body = new ArticleHttpClient.Body(
+                    new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)), invocation.getArgument(1),
+                    System.nanoTime() + TimeUnit.SECONDS.toNanos(10));
+            return reader.read(body, StandardCharsets.UTF_8.name(), URL);
+        });
+    }
+
+    private void rule(String body, String strip) {
+        when(extractionRuleRegistry.ruleFor(anyString())).thenReturn(new ExtractionRuleRegistry.CompiledRule(
+                "news.example.com", RULE_VERSION, QueryParser.parse(body), strip != null ? QueryParser.parse(strip) : null));
+    }
+
+    /**
+     * 스트리밍 / 전체 문서 파싱 두 방식으로 추출하고 결과가 같은지 확인
+     */
+    private String extractBothWays() {
+        ReflectionTestUtils.setField(articleFetchConfig, "streaming", false);
+        String document = extractor.extract(URL);
+        ReflectionTestUtils.setField(articleFetchConfig, "streaming", true);
+        String streaming = extractor.extract(URL);
+        assertEquals(document, streaming, "전체 문서 파싱과 스트리밍 파싱 결과가 달라짐");
+        return streaming;
+    }
+
+    @Test
+    @DisplayName("제거 선택자가 없는 규칙도 공통 제거 선택자로 스크립트와 광고를 뺀다")
+    void ruleWithoutStripUsesGenericStrip() throws Exception {
+        rule("div.story", null);
+        serve("<html><body><div class=\"story\"><p>기준금리를 동결했다.</p>"
+                + "<script>var tracker = 1;</script><div class=\"ad\">광고</div></div></body></html>");
+
+        assertEquals("기준금리를 동결했다.", extractBothWays());
+    }
+
+    @Test
+    @DisplayName("규칙에 제거 선택자가 있으면 그 선택자만 사용한다")
+    void ruleStripSelectorIsUsed() throws Exception {
+        rule("div.story", ".byline");
+        serve("<html><body><div class=\"story\"><p>기준금리를 동결했다.</p>"
+                + "<p class=\"byline\">홍길동 기자</p><div class=\"ad\">광고</div></div></body></html>");
+
+        assertEquals("기준금리를 동결했다. 광고", extractBothWays());
+    }
+
+    @Test
+    @DisplayName("규칙 선택자에 여러 요소가 걸리면 두 방식 모두 첫 요소만 사용한다")
+    void ruleUsesFirstMatchOnly() throws Exception {
+        rule("div.story", null);
+        serve("<html><body><div class=\"story\"><p>기준금리를 동결했다.</p></div>"
+                + "<div class=\"story\"><p>관련 기사 요약</p></div></body></html>");
+
+        assertEquals("기준금리를 동결했다.", extractBothWays());
+    }
+
+    @Test
+    @DisplayName("공통 선택자가 겹치면 바깥 요소 텍스트를 한 번만 쓰고 안쪽 본문도 잃지 않는다")
+    void nestedGenericContainersKeepInnerText() throws Exception {
+        serve("<html><body><article><h1>기준금리 동결</h1>"
+                + "<div class=\"article-body\"><p>한국은행이 기준금리를 동결했다.</p></div></article></body></html>");
+
+        assertEquals("기준금리 동결 한국은행이 기준금리를 동결했다.", extractBothWays());
+    }
+
+    @Test
+    @DisplayName("겹치지 않는 공통 선택자 요소는 문서 순서대로 모두 사용한다")
+    void separateGenericContainersAreJoined() throws Exception {
+        serve("<html><body><div class=\"article-body\"><p>첫 문단</p></div>"
+                + "<aside>사이드</aside><div class=\"news-content\"><p>둘째 문단</p></div></body></html>");
+
+        assertEquals("첫 문단 둘째 문단", extractBothWays());
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 본문을 찾아 멈춘 페이지는 HTML 캐시에 저장하지 않고 본문만 규칙 버전과 함께 저장한다")
+    void streamingEarlyStopIsNotCachedAsHtml() throws Exception {
+        rule("div.story", null);
+        serve("<html><body><div class=\"story\"><p>기준금리를 동결했다.</p></div>"
+                + "<div class=\"comments\">댓글</div></body></html>");
+        when(articleDiskCache.isEnabled()).thenReturn(true);
+        ReflectionTestUtils.setField(articleFetchConfig, "streaming", true);
+
+        assertEquals("기준금리를 동결했다.", extractor.extract(URL));
+        verify(articleDiskCache, never()).putHtml(anyString(), any(), any());
+        verify(articleDiskCache).putText(URL, RULE_VERSION, "기준금리를 동결했다.");
+    }
+
+    @Test
+    @DisplayName("끝까지 받은 페이지는 HTML 캐시에 저장한다")
+    void completePageIsCachedAsHtml() throws Exception {
+        rule("div.story", null);
+        serve("<html><body><div class=\"story\"><p>기준금리를 동결했다.</p></div></body></html>");
+        when(articleDiskCache.isEnabled()).thenReturn(true);
+        ReflectionTestUtils.setField(articleFetchConfig, "streaming", false);
+
+        extractor.extract(URL);
+        verify(articleDiskCache).putHtml(eq(URL), any(), eq(StandardCharsets.UTF_8.name()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.newsapp.eyehope.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FeedFetchCacheTest {
+
+    private static final String FEED_URL = "https://news.example.com/rss";
+
+    private final FeedFetchCache cache = new FeedFetchCache(new SimpleMeterRegistry());
+
+    private static FeedFetchCache.Entry entry(String etag) {
+        return new FeedFetchCache.Entry(etag, null, "hash-" + etag, Set.of(), null);
+    }
+
+    @Test
+    @DisplayName("보류한 항목은 commit 전까지 조회되지 않는다")
+    void stagedEntryIsInvisibleUntilCommit() {
+        FeedFetchCache.Entry previous = entry("v1");
+        cache.put(FEED_URL, previous);
+
+        cache.stage(FEED_URL, entry("v2"));
+        assertSame(previous, cache.get(FEED_URL));
+
+        FeedFetchCache.Entry next = entry("v3");
+        cache.stage(FEED_URL, next);
+        cache.commit(FEED_URL);
+        assertSame(next, cache.get(FEED_URL));
+    }
+
+    @Test
+    @DisplayName("보류한 항목이 없으면 commit은 아무것도 하지 않는다")
+    void commitWithoutStageIsNoop() {
+        cache.commit(FEED_URL);
+
+        assertNull(cache.get(FEED_URL));
+    }
+}
@@ -0,0 +1,132 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.RssFeedConfig;
+import com.newsapp.eyehope.api.config.RssFetchConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedHealthRegistryTest {
+
+    private static final IOException FAILURE = new IOException("connect timed out");
+
+    private FeedHealthRegistry registry;
+    private RssFeedConfig.FeedInfo feed;
+
+    @BeforeEach
+    void setUp() {
+        RssFetchConfig config = new RssFetchConfig();
+        ReflectionTestUtils.setField(config, "circuitFailureThreshold", 3);
+        ReflectionTestUtils.setField(config, "circuitBaseBackoffSeconds", 1L);
+        ReflectionTestUtils.setField(config, "circuitMaxBackoffSeconds", 3L);
+        registry = new FeedHealthRegistry(config, new SimpleMeterRegistry());
+
+        feed = new RssFeedConfig.FeedInfo();
+        feed.setUrl("https://news.example.com/rss/economy.xml");
+        feed.setSource("예시일보");
+        feed.setCategory("경제");
+    }
+
+    private FeedHealthRegistry.FeedHealth health() {
+        return registry.snapshot().get(0);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            registry.acquire(feed);
+            registry.recordFailure(feed, FAILURE);
+        }
+    }
+
+    private void waitForRetry() throws InterruptedException {
+        Thread.sleep(health().getBackoffSeconds() * 1000 + 100);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 차단하고, 그 전에는 계속 수집한다")
+    void opensAfterThreshold() {
+        fail(2);
+        assertEquals(FeedHealthRegistry.State.CLOSED, health().getState());
+        assertEquals(2, health().getConsecutiveFailures());
+
+        fail(1);
+        assertEquals(FeedHealthRegistry.State.OPEN, health().getState());
+        assertEquals(1L, health().getBackoffSeconds());
+        assertTrue(health().getLastError().contains("connect timed out"));
+        assertThrows(FeedHealthRegistry.FeedCircuitOpenException.class, () -> registry.acquire(feed));
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수를 초기화한다")
+    void successResetsFailures() {
+        fail(2);
+        registry.acquire(feed);
+        registry.recordSuccess(feed);
+        fail(2);
+
+        assertEquals(FeedHealthRegistry.State.CLOSED, health().getState());
+        assertEquals(2, health().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번만 시험 수집하고, 성공하면 정상으로 돌아간다")
+    void halfOpenAllowsSingleProbe() throws InterruptedException {
+        fail(3);
+        waitForRetry();
+
+        assertDoesNotThrow(() -> registry.acquire(feed));
+        assertEquals(FeedHealthRegistry.State.HALF_OPEN, health().getState());
+        // 시험 수집 중에는 다른 수집을 막는다
+        assertThrows(FeedHealthRegistry.FeedCircuitOpenException.class, () -> registry.acquire(feed));
+
+        registry.recordSuccess(feed);
+        assertEquals(FeedHealthRegistry.State.CLOSED, health().getState());
+        assertEquals(0, health().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("시험 수집이 실패하면 차단 시간을 두 배로 늘리되 최대값을 넘지 않는다")
+    void failedProbeDoublesBackoff() throws InterruptedException {
+        fail(3);
+        waitForRetry();
+        fail(1);
+        assertEquals(FeedHealthRegistry.State.OPEN, health().getState());
+        assertEquals(2L, health().getBackoffSeconds());
+
+        waitForRetry();
+        fail(1);
+        assertEquals(3L, health().getBackoffSeconds());
+    }
+
+    @Test
+    @DisplayName("시험 수집이 결과 없이 끝나면 다시 차단 상태로 돌아가 다음에 재시험한다")
+    void abandonedProbeReturnsToOpen() throws InterruptedException {
+        fail(3);
+        waitForRetry();
+        registry.acquire(feed);
+
+        registry.abandon(feed);
+        assertEquals(FeedHealthRegistry.State.OPEN, health().getState());
+        assertDoesNotThrow(() -> registry.acquire(feed));
+    }
+
+    @Test
+    @DisplayName("수동 초기화하면 바로 수집할 수 있다")
+    void resetClosesCircuit() {
+        fail(3);
+
+        assertTrue(registry.reset(feed.getUrl()));
+        assertDoesNotThrow(() -> registry.acquire(feed));
+        assertFalse(registry.reset("https://unknown.example.com/rss"));
+    }
+}
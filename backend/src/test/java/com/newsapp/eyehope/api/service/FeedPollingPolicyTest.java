@@ -0,0 +1,108 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.FeedPollingConfig;
+import com.newsapp.eyehope.api.domain.News;
+import com.newsapp.eyehope.api.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FeedPollingPolicyTest {
+
+    private static final long FEED_ID = 1L;
+
+    private News news;
+    private FeedPollingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        FeedPollingConfig config = new FeedPollingConfig();
+        ReflectionTestUtils.setField(config, "minIntervalSeconds", 300L);
+        ReflectionTestUtils.setField(config, "maxIntervalSeconds", 7200L);
+        ReflectionTestUtils.setField(config, "initialIntervalSeconds", 1200L);
+        ReflectionTestUtils.setField(config, "targetEntriesPerPoll", 3.0);
+        ReflectionTestUtils.setField(config, "smoothing", 0.3);
+
+        news = new News();
+        news.setId(FEED_ID);
+        NewsRepository newsRepository = mock(NewsRepository.class);
+        when(newsRepository.findById(FEED_ID)).thenReturn(Optional.of(news));
+        policy = new FeedPollingPolicy(newsRepository, config);
+    }
+
+    @Test
+    @DisplayName("처음 수집한 피드는 초기 주기 동안의 도착률로 다음 주기를 정한다")
+    void firstPollUsesInitialInterval() {
+        // 1200초 동안 3건 → 시간당 9건 → 3건이 모이는 데 1200초
+        policy.recordPoll(FEED_ID, 3);
+
+        assertEquals(9.0, news.getArrivalRate(), 1e-9);
+        assertEquals(1200L, news.getPollIntervalSeconds());
+        assertEquals(news.getLastPolledAt().plusSeconds(1200), news.getNextPollAt());
+    }
+
+    @Test
+    @DisplayName("새 기사가 없으면 최대 주기까지 늘린다")
+    void noEntriesBacksOffToMaxInterval() {
+        policy.recordPoll(FEED_ID, 0);
+
+        assertEquals(7200L, news.getPollIntervalSeconds());
+    }
+
+    @Test
+    @DisplayName("도착률이 높아도 최소 주기보다 자주 수집하지 않는다")
+    void busyFeedIsClampedToMinInterval() {
+        policy.recordPoll(FEED_ID, 200);
+
+        assertEquals(300L, news.getPollIntervalSeconds());
+    }
+
+    @Test
+    @DisplayName("도착률은 이전 값과 EWMA로 합친다")
+    void arrivalRateIsSmoothed() {
+        news.setArrivalRate(6.0);
+        news.setPollIntervalSeconds(1800L);
+        news.setLastPolledAt(LocalDateTime.now().minusHours(1));
+
+        policy.recordPoll(FEED_ID, 0);
+
+        // 0.3 * 0 + 0.7 * 6 = 4.2건/h → 3 / 4.2 * 3600 ≈ 2571초
+        assertEquals(4.2, news.getArrivalRate(), 0.01);
+        assertEquals(2571L, news.getPollIntervalSeconds());
+    }
+
+    @Test
+    @DisplayName("수집 실패 시 주기는 유지하고 다음 수집 시각만 미룬다")
+    void failureKeepsInterval() {
+        news.setPollIntervalSeconds(600L);
+
+        LocalDateTime before = LocalDateTime.now();
+        policy.recordFailure(FEED_ID);
+
+        assertEquals(600L, news.getPollIntervalSeconds());
+        assertTrue(!news.getNextPollAt().isBefore(before.plusSeconds(600)));
+    }
+
+    @Test
+    @DisplayName("차단된 피드의 재시도 시각은 이미 더 늦은 다음 수집 시각을 당기지 않는다")
+    void deferUntilNeverMovesEarlier() {
+        LocalDateTime later = LocalDateTime.now().plusHours(2);
+        news.setNextPollAt(later);
+
+        policy.deferUntil(FEED_ID, LocalDateTime.now().plusMinutes(5));
+        assertEquals(later, news.getNextPollAt());
+
+        LocalDateTime retryAt = later.plusHours(1);
+        policy.deferUntil(FEED_ID, retryAt);
+        assertEquals(retryAt, news.getNextPollAt());
+    }
+}
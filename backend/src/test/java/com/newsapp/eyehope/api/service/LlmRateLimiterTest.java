@@ -0,0 +1,194 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.LlmRateLimitConfig;
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.exception.LlmProviderException;
+import com.newsapp.eyehope.api.exception.LlmRateLimitTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.ConnectException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LlmRateLimiterTest {
+
+    private static final String PROVIDER = SummarizationConfig.PROVIDER_GEMINI;
+
+    private LlmRateLimitConfig config;
+    private SummarizationConfig summarizationConfig;
+    private SimpleMeterRegistry registry;
+    private LlmRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new LlmRateLimitConfig();
+        ReflectionTestUtils.setField(config, "expectedCompletionTokens", 0);
+        ReflectionTestUtils.setField(config, "maxWaitMs", 60000L);
+        ReflectionTestUtils.setField(config, "decreaseFactor", 0.5);
+        ReflectionTestUtils.setField(config, "backoffMs", 0L);
+        summarizationConfig = new SummarizationConfig();
+        ReflectionTestUtils.setField(summarizationConfig, "geminiConcurrency", 4);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (limiter != null) {
+            limiter.shutdown();
+        }
+    }
+
+    private LlmRateLimiter limiter(int rpm, int tpm) {
+        ReflectionTestUtils.setField(config, "geminiRpm", rpm);
+        ReflectionTestUtils.setField(config, "geminiTpm", tpm);
+        limiter = new LlmRateLimiter(config, summarizationConfig, registry);
+        return limiter;
+    }
+
+    private double concurrencyLimit() {
+        return registry.get("llm.ratelimit.concurrency.limit").tag("provider", PROVIDER).gauge().value();
+    }
+
+    private double available(String kind) {
+        return registry.get("llm.ratelimit.available").tag("provider", PROVIDER).tag("kind", kind).gauge().value();
+    }
+
+    private static LlmCompletion completion(int totalTokens) {
+        return new LlmCompletion(PROVIDER, "model", "요약", totalTokens, 0);
+    }
+
+    private static LlmProviderException throttled() {
+        return new LlmProviderException(PROVIDER, 429, "429 Too Many Requests", null, null);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도까지만 허가하고, 호출이 끝나면 기다리던 요청에 허가한다")
+    void permitsUpToConcurrency() throws Exception {
+        ReflectionTestUtils.setField(summarizationConfig, "geminiConcurrency", 2);
+        limiter(0, 0);
+
+        CompletableFuture<LlmRateLimiter.Permit> first = limiter.acquire(PROVIDER, 100);
+        CompletableFuture<LlmRateLimiter.Permit> second = limiter.acquire(PROVIDER, 100);
+        CompletableFuture<LlmRateLimiter.Permit> third = limiter.acquire(PROVIDER, 100);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+
+        first.get().release(completion(100), null);
+        assertTrue(third.isDone());
+    }
+
+    @Test
+    @DisplayName("429를 받으면 동시 호출 한도를 절반으로 줄이고, 성공할 때마다 1/한도씩 늘려 최대값까지 회복한다")
+    void throttlingHalvesAndSuccessRecoversAdditively() throws Exception {
+        limiter(0, 0);
+        LlmRateLimiter.Permit first = limiter.acquire(PROVIDER, 100).get();
+        LlmRateLimiter.Permit second = limiter.acquire(PROVIDER, 100).get();
+        assertEquals(4.0, concurrencyLimit());
+
+        first.release(null, throttled());
+        assertEquals(2.0, concurrencyLimit());
+
+        second.release(completion(100), null);
+        assertEquals(2.5, concurrencyLimit(), 1e-9);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(PROVIDER, 100).get().release(completion(100), null);
+        }
+        assertEquals(4.0, concurrencyLimit());
+    }
+
+    @Test
+    @DisplayName("같은 순간 여러 호출이 429로 실패해도 한도는 한 번만 줄인다")
+    void simultaneousThrottlingDecreasesOnce() throws Exception {
+        ReflectionTestUtils.setField(config, "backoffMs", 1000L);
+        limiter(0, 0);
+        LlmRateLimiter.Permit first = limiter.acquire(PROVIDER, 100).get();
+        LlmRateLimiter.Permit second = limiter.acquire(PROVIDER, 100).get();
+
+        first.release(null, throttled());
+        second.release(null, throttled());
+        assertEquals(2.0, concurrencyLimit());
+        // backoff-ms 동안 새 요청을 멈춘다
+        assertFalse(limiter.acquire(PROVIDER, 100).isDone());
+    }
+
+    @Test
+    @DisplayName("분당 요청 수를 다 쓰면 버킷이 다시 찰 때까지 기다린다")
+    void requestBucketLimitsRate() {
+        limiter(2, 0);
+
+        assertTrue(limiter.acquire(PROVIDER, 100).isDone());
+        assertTrue(limiter.acquire(PROVIDER, 100).isDone());
+        assertFalse(limiter.acquire(PROVIDER, 100).isDone());
+        assertEquals(0.0, available("requests"), 0.01);
+    }
+
+    @Test
+    @DisplayName("예상 토큰만큼 예약하고, 응답 후 실제 사용량과의 차이를 돌려받아 기다리던 요청에 허가한다")
+    void tokenBucketSettlesActualUsage() throws Exception {
+        limiter(0, 1000);
+
+        CompletableFuture<LlmRateLimiter.Permit> first = limiter.acquire(PROVIDER, 600);
+        CompletableFuture<LlmRateLimiter.Permit> second = limiter.acquire(PROVIDER, 600);
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(400.0, available("tokens"), 1.0);
+
+        first.get().release(completion(100), null);
+        assertTrue(second.isDone());
+        assertEquals(300.0, available("tokens"), 1.0);
+    }
+
+    @Test
+    @DisplayName("요청이 제공자에 닿기 전에 실패하면 예약한 요청 수와 토큰을 돌려받는다")
+    void undeliveredFailureRefundsReservation() throws Exception {
+        limiter(10, 1000);
+        LlmRateLimiter.Permit permit = limiter.acquire(PROVIDER, 600).get();
+        assertEquals(9.0, available("requests"), 0.01);
+        assertEquals(400.0, available("tokens"), 1.0);
+
+        permit.release(null, new LlmProviderException(PROVIDER, 0, "Connection refused", null,
+                new ConnectException("Connection refused")));
+        assertEquals(10.0, available("requests"), 0.01);
+        assertEquals(1000.0, available("tokens"), 1.0);
+        assertEquals(4.0, concurrencyLimit());
+    }
+
+    @Test
+    @DisplayName("제공자가 받은 뒤 실패한 요청은 예약한 토큰을 돌려받지 않는다")
+    void deliveredFailureKeepsReservation() throws Exception {
+        limiter(10, 1000);
+        LlmRateLimiter.Permit permit = limiter.acquire(PROVIDER, 600).get();
+
+        permit.release(null, new LlmProviderException(PROVIDER, 500, "500 Internal Server Error", null, null));
+        assertEquals(9.0, available("requests"), 0.01);
+        assertEquals(400.0, available("tokens"), 1.0);
+        assertEquals(4.0, concurrencyLimit());
+    }
+
+    @Test
+    @DisplayName("max-wait-ms 안에 허가를 받지 못하면 LlmRateLimitTimeoutException으로 실패한다")
+    void waitTimeoutFailsWithDedicatedException() {
+        ReflectionTestUtils.setField(config, "maxWaitMs", 100L);
+        ReflectionTestUtils.setField(summarizationConfig, "geminiConcurrency", 1);
+        limiter(0, 0);
+        limiter.acquire(PROVIDER, 100);
+
+        CompletableFuture<LlmRateLimiter.Permit> waiting = limiter.acquire(PROVIDER, 100);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(LlmRateLimitTimeoutException.class, e.getCause());
+    }
+}
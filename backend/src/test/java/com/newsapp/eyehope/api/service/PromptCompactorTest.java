@@ -0,0 +1,102 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.SummarizationConfig;
+import com.newsapp.eyehope.api.util.TokenEstimator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptCompactorTest {
+
+    private static final String TITLE = "한국은행 기준금리 동결";
+    private static final String LEAD = "한국은행 금융통화위원회는 17일 기준금리를 연 3.25%로 동결했다.";
+    private static final String POLICY = "금통위는 물가 상승률이 둔화하고 있지만 기준금리 인하는 이르다고 판단했다.";
+    private static final String FESTIVAL = "한편 이날 서울 도심에서는 가을 축제가 열려 많은 시민들이 몰렸다.";
+    private static final String OUTLOOK = "한국은행은 다음 회의에서 기준금리 인하 여부를 다시 논의할 예정이다.";
+    private static final String TRAFFIC = "행사장 주변 도로는 오후 늦게까지 차량 통행이 통제됐다.";
+
+    private SummarizationConfig config;
+    private PromptCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        config = new SummarizationConfig();
+        ReflectionTestUtils.setField(config, "compactionEnabled", true);
+        ReflectionTestUtils.setField(config, "compactionTokenBudget", 1500);
+        compactor = new PromptCompactor(config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("첫 문장 앞의 통신사 / 기자 정보를 뗀다")
+    void leadingBylineIsRemoved() {
+        assertEquals(LEAD, compactor.compact(TITLE, "(서울=연합뉴스) 홍길동 기자 = " + LEAD));
+        assertEquals(LEAD, compactor.compact(TITLE, "[이데일리 홍길동 기자] " + LEAD));
+        assertEquals(LEAD, compactor.compact(TITLE, "홍길동 특파원 = " + LEAD));
+    }
+
+    @Test
+    @DisplayName("기자 이메일, 저작권 문구, 관련 기사 링크, 사진 설명 줄은 뺀다")
+    void boilerplateLinesAreDropped() {
+        String content = LEAD + "\n"
+                + "[사진=연합뉴스]\n"
+                + POLICY + "\n"
+                + "▶ 관련 기사 보기\n"
+                + "홍길동 기자 hong@yna.co.kr\n"
+                + "hong@yna.co.kr\n"
+                + "홍길동 기자\n"
+                + "<저작권자(c) 연합뉴스, 무단 전재-재배포 금지>\n"
+                + "Copyright © Example News. All rights reserved.";
+
+        assertEquals(LEAD + " " + POLICY, compactor.compact(TITLE, content));
+    }
+
+    @Test
+    @DisplayName("앞 문장과 거의 같은 문장은 한 번만 남긴다")
+    void nearDuplicateSentencesAreDropped() {
+        String content = LEAD + " " + POLICY + " " + LEAD.replace("17일 ", "17일, ");
+
+        assertEquals(LEAD + " " + POLICY, compactor.compact(TITLE, content));
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 리드 문장과 핵심어가 많은 문장을 원래 순서대로 예산 안에서 고른다")
+    void overBudgetKeepsLeadAndRelevantSentences() {
+        ReflectionTestUtils.setField(config, "compactionTokenBudget", 100);
+        String content = String.join(" ", LEAD, POLICY, FESTIVAL, OUTLOOK, TRAFFIC);
+        assertTrue(TokenEstimator.estimate(content) > 100);
+
+        String compacted = compactor.compact(TITLE, content);
+        assertEquals(LEAD + " " + POLICY + " " + OUTLOOK, compacted);
+        assertTrue(TokenEstimator.estimate(compacted) <= 100);
+    }
+
+    @Test
+    @DisplayName("예산 안에 드는 문장이 하나도 없으면 리드 문장만 보낸다")
+    void oversizedSentencesFallBackToLead() {
+        ReflectionTestUtils.setField(config, "compactionTokenBudget", 100);
+        String longLead = "한국은행 금융통화위원회는 " + "물가와 성장, 금융 안정 여건을 두루 점검한 끝에 ".repeat(5)
+                + "기준금리를 연 3.25%로 동결했다.";
+        String longOutlook = "한국은행은 " + "국내외 경기 흐름과 환율, 가계부채 추이를 지켜보면서 ".repeat(5)
+                + "다음 회의에서 인하 여부를 논의할 예정이다.";
+        assertTrue(TokenEstimator.estimate(longLead) > 100);
+        assertTrue(TokenEstimator.estimate(longOutlook) > 100);
+
+        assertEquals(longLead, compactor.compact(TITLE, longLead + " " + longOutlook));
+    }
+
+    @Test
+    @DisplayName("압축을 끄거나 모든 문장이 상용구면 본문을 그대로 보낸다")
+    void disabledOrAllBoilerplateReturnsOriginal() {
+        String boilerplate = "hong@yna.co.kr\n<저작권자(c) 연합뉴스, 무단 전재-재배포 금지>";
+        assertEquals(boilerplate, compactor.compact(TITLE, boilerplate));
+
+        ReflectionTestUtils.setField(config, "compactionEnabled", false);
+        String content = "(서울=연합뉴스) 홍길동 기자 = " + LEAD + "\n" + boilerplate;
+        assertEquals(content, compactor.compact(TITLE, content));
+    }
+}
@@ -0,0 +1,64 @@
+package com.newsapp.eyehope.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RssFeedServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 10, 15, 12, 0);
+
+    private static StreamingFeedReader.FeedEntry entry(String link, LocalDateTime publishedAt) {
+        return StreamingFeedReader.FeedEntry.builder().link(link).publishedAt(publishedAt).build();
+    }
+
+    @Test
+    @DisplayName("마지막 발행 시각과 같은 시각의 다른 기사는 새 기사로 본다")
+    void sameTimestampDifferentUrlIsNew() {
+        Set<String> seen = Set.of("https://news.example.com/1");
+
+        assertTrue(RssFeedService.isAlreadySeen(entry("https://news.example.com/1", NOON), seen, NOON));
+        assertFalse(RssFeedService.isAlreadySeen(entry("https://news.example.com/2", NOON), seen, NOON));
+        assertFalse(RssFeedService.isAlreadySeen(entry("https://news.example.com/3", NOON.plusMinutes(1)), seen, NOON));
+        assertTrue(RssFeedService.isAlreadySeen(entry("https://news.example.com/4", NOON.minusMinutes(1)), seen, NOON));
+    }
+
+    @Test
+    @DisplayName("발행 시각이 없는 기사는 URL로만 판단한다")
+    void entryWithoutDateIsComparedByUrl() {
+        Set<String> seen = Set.of("https://news.example.com/1");
+
+        assertTrue(RssFeedService.isAlreadySeen(entry("https://news.example.com/1", null), seen, NOON));
+        assertFalse(RssFeedService.isAlreadySeen(entry("https://news.example.com/2", null), seen, NOON));
+        assertFalse(RssFeedService.isAlreadySeen(entry("https://news.example.com/2", NOON), Set.of(), null));
+    }
+
+    @Test
+    @DisplayName("가장 늦은 발행 시각의 기사를 모두 기억하고, 같은 시각이면 이전 URL도 유지한다")
+    void newestUrlsKeepsAllEntriesAtWatermark() {
+        List<StreamingFeedReader.FeedEntry> entries = List.of(
+                entry("https://news.example.com/3", NOON),
+                entry("https://news.example.com/2", NOON),
+                entry("https://news.example.com/0", NOON.minusHours(1)));
+
+        assertEquals(Set.of("https://news.example.com/3", "https://news.example.com/2"),
+                RssFeedService.newestUrls(entries, NOON, Set.of("https://news.example.com/old"), NOON.minusHours(2)));
+        assertEquals(Set.of("https://news.example.com/3", "https://news.example.com/2", "https://news.example.com/1"),
+                RssFeedService.newestUrls(entries, NOON, Set.of("https://news.example.com/1"), NOON));
+    }
+
+    @Test
+    @DisplayName("새 기사가 없으면 이전 기준을 유지한다")
+    void newestUrlsWithoutEntries() {
+        Set<String> seen = Set.of("https://news.example.com/1");
+
+        assertEquals(seen, RssFeedService.newestUrls(List.of(), NOON, seen, NOON));
+    }
+}
@@ -0,0 +1,97 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.StoryClusterConfig;
+import com.newsapp.eyehope.api.repository.PostsRepository;
+import com.newsapp.eyehope.api.util.MinHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class StoryClusterIndexTest {
+
+    private static final String BUDGET_TITLE = "정부, 내년 예산안 656조 원 확정…복지 지출 확대";
+    private static final String SPORTS_TITLE = "손흥민, 리그 10호 골 폭발…토트넘 3연승 견인";
+    private static final String STOCK_TITLE = "코스피 2600선 회복…외국인 사흘째 순매수";
+
+    private StoryClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        StoryClusterConfig config = new StoryClusterConfig();
+        ReflectionTestUtils.setField(config, "enabled", true);
+        ReflectionTestUtils.setField(config, "windowMinutes", 180L);
+        ReflectionTestUtils.setField(config, "similarityThreshold", 0.3);
+        index = new StoryClusterIndex(config, mock(PostsRepository.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("RSS 설명이 없는 무관한 기사들은 안내 문구가 같아도 서로 묶이지 않는다")
+    void placeholderPostsStayApart() {
+        String placeholder = RssFeedService.CONTENT_PLACEHOLDER;
+        // 안내 문구를 그대로 넣으면 무관한 제목끼리도 기준을 넘는다 (수정 전 동작)
+        assertTrue(MinHash.similarity(MinHash.signature(BUDGET_TITLE, placeholder),
+                MinHash.signature(SPORTS_TITLE, placeholder)) >= 0.3);
+
+        assertEquals(1L, index.assign(1L, PostsWriter.clusterSignature(BUDGET_TITLE, placeholder)));
+        assertEquals(2L, index.assign(2L, PostsWriter.clusterSignature(SPORTS_TITLE, placeholder)));
+        assertEquals(3L, index.assign(3L, PostsWriter.clusterSignature(STOCK_TITLE, placeholder)));
+    }
+
+    @Test
+    @DisplayName("안내 문구나 제목을 반복한 설명은 서명에서 빼고 제목만 사용한다")
+    void nonArticleContentIsIgnored() {
+        int[] titleOnly = MinHash.signature(BUDGET_TITLE, null);
+
+        assertArrayEquals(titleOnly, PostsWriter.clusterSignature(BUDGET_TITLE, RssFeedService.CONTENT_PLACEHOLDER));
+        assertArrayEquals(titleOnly, PostsWriter.clusterSignature(BUDGET_TITLE, " " + BUDGET_TITLE + " "));
+        assertArrayEquals(titleOnly, PostsWriter.clusterSignature(BUDGET_TITLE, ""));
+    }
+
+    @Test
+    @DisplayName("같은 사건을 다룬 기사는 먼저 들어온 기사의 클러스터에 합류한다")
+    void sameStoryJoinsExistingCluster() {
+        long first = index.assign(10L, PostsWriter.clusterSignature(
+                "한국은행 기준금리 3.25%로 동결…물가 불확실성 고려",
+                "한국은행 금융통화위원회는 17일 기준금리를 연 3.25%로 동결했다. 물가 불확실성이 크다고 판단했다."));
+        long second = index.assign(11L, PostsWriter.clusterSignature(
+                "한은, 기준금리 3.25% 동결 결정…물가 불확실성에 신중",
+                "한국은행 금융통화위원회가 17일 기준금리를 연 3.25%로 동결했다. 물가 불확실성이 크다는 판단이다."));
+
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+    }
+
+    @Test
+    @DisplayName("멤버와만 비슷하고 대표 기사와 다른 기사는 클러스터에 합류하지 않는다")
+    void candidatesAreComparedWithLeader() {
+        int[] leader = MinHash.signature("한국은행 기준금리 3.25%로 동결 물가 불확실성 고려", null);
+        int[] member = MinHash.signature("한국은행 기준금리 3.25%로 동결 환율 급등에 외환시장 긴장", null);
+        int[] drifted = MinHash.signature("한국은행 동결 직후 환율 급등에 외환시장 긴장", null);
+        assertTrue(MinHash.similarity(drifted, member) >= 0.3);
+        assertTrue(MinHash.similarity(drifted, leader) < 0.3);
+
+        assertEquals(1L, index.assign(1L, leader));
+        assertEquals(1L, index.assign(2L, member));
+        assertEquals(3L, index.assign(3L, drifted));
+    }
+
+    @Test
+    @DisplayName("롤백된 기사는 인덱스에서 빠져 다른 기사가 합류하지 않는다")
+    void forgottenPostsAreNotMatched() {
+        int[] signature = PostsWriter.clusterSignature(BUDGET_TITLE, null);
+        index.assign(1L, signature);
+        index.forget(List.of(1L));
+
+        assertEquals(0, index.size());
+        assertEquals(2L, index.assign(2L, signature));
+    }
+}
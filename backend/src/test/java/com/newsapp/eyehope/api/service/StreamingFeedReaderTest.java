@@ -0,0 +1,97 @@
+package com.newsapp.eyehope.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingFeedReaderTest {
+
+    private final StreamingFeedReader reader = new StreamingFeedReader();
+
+    @Test
+    @DisplayName("RFC 1123 발행 시각은 시스템 시간대로 변환한다")
+    void parsesRfc1123() {
+        LocalDateTime expected = OffsetDateTime.parse("2024-10-15T09:30:00+09:00")
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+
+        assertEquals(expected, StreamingFeedReader.parseDate("Tue, 15 Oct 2024 09:30:00 +0900"));
+        assertEquals(expected, StreamingFeedReader.parseDate("  Tue, 15 Oct 2024 00:30:00 GMT  "));
+    }
+
+    @Test
+    @DisplayName("ISO-8601 오프셋 시각은 시스템 시간대로 변환한다")
+    void parsesIsoOffset() {
+        LocalDateTime expected = OffsetDateTime.parse("2024-10-15T09:30:00+09:00")
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+
+        assertEquals(expected, StreamingFeedReader.parseDate("2024-10-15T09:30:00+09:00"));
+        assertEquals(expected, StreamingFeedReader.parseDate("2024-10-15T00:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("시간대가 없는 시각은 그대로 사용한다")
+    void parsesLocalFormats() {
+        LocalDateTime expected = LocalDateTime.of(2024, 10, 15, 9, 30);
+
+        assertEquals(expected, StreamingFeedReader.parseDate("2024-10-15T09:30:00"));
+        assertEquals(expected, StreamingFeedReader.parseDate("2024-10-15 09:30:00"));
+        assertEquals(expected, StreamingFeedReader.parseDate("2024.10.15 09:30:00"));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 알 수 없는 형식이면 null")
+    void returnsNullForUnknownFormats() {
+        assertNull(StreamingFeedReader.parseDate(null));
+        assertNull(StreamingFeedReader.parseDate("  "));
+        assertNull(StreamingFeedReader.parseDate("어제 오후"));
+        assertNull(StreamingFeedReader.parseDate("2024/10/15"));
+    }
+
+    @Test
+    @DisplayName("handler가 false를 반환하면 다음 기사를 읽지 않는다")
+    void stopsWhenHandlerReturnsFalse() throws Exception {
+        String rss = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <rss version="2.0" xmlns:dc="http://purl.org/dc/elements/1.1/"><channel>
+                  <item><title>첫 기사</title><link>https://news.example.com/1</link>
+                    <description><![CDATA[<p>본문 1</p>]]></description>
+                    <pubDate>Tue, 15 Oct 2024 09:30:00 +0900</pubDate></item>
+                  <item><title>둘째 기사</title><link>https://news.example.com/2</link>
+                    <dc:date>2024-10-15T09:00:00+09:00</dc:date></item>
+                  <item><title>셋째 기사</title><link>https://news.example.com/3</link></item>
+                </channel></rss>
+                """;
+        List<StreamingFeedReader.FeedEntry> entries = new ArrayList<>();
+
+        reader.read(rss.getBytes(StandardCharsets.UTF_8), "application/rss+xml", entry -> {
+            entries.add(entry);
+            return entries.size() < 2;
+        });
+
+        assertEquals(2, entries.size());
+        assertEquals("첫 기사", entries.get(0).getTitle());
+        assertEquals("<p>본문 1</p>", entries.get(0).getDescription());
+        assertEquals("https://news.example.com/2", entries.get(1).getLink());
+        assertEquals(StreamingFeedReader.parseDate("2024-10-15T09:00:00+09:00"), entries.get(1).getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("RSS / Atom이 아니면 UnsupportedFeedException")
+    void rejectsUnknownRoot() {
+        byte[] body = "<?xml version=\"1.0\"?><rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"/>"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(StreamingFeedReader.UnsupportedFeedException.class,
+                () -> reader.read(body, null, entry -> true));
+    }
+}
@@ -0,0 +1,104 @@
+package com.newsapp.eyehope.api.service;
+
+import com.newsapp.eyehope.api.config.NodeConfig;
+import com.newsapp.eyehope.api.config.SummaryQueueConfig;
+import com.newsapp.eyehope.api.domain.SummaryTask;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepository;
+import com.newsapp.eyehope.api.repository.SummaryTaskRepositoryCustom.ClaimedTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SummaryTaskQueueTest {
+
+    private static final ClaimedTask FIRST = new ClaimedTask(1L, 101L, 1);
+    private static final ClaimedTask SECOND = new ClaimedTask(2L, 102L, 1);
+
+    private SummaryTaskRepository repository;
+    private SummaryTaskQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SummaryTaskRepository.class);
+        SummaryQueueConfig config = new SummaryQueueConfig();
+        ReflectionTestUtils.setField(config, "leaseSeconds", 600L);
+        ReflectionTestUtils.setField(config, "maxAttempts", 3);
+        ReflectionTestUtils.setField(config, "claimBatchSize", 20);
+        NodeConfig nodeConfig = new NodeConfig();
+        ReflectionTestUtils.setField(nodeConfig, "nodeId", "node-a");
+        queue = new SummaryTaskQueue(repository, config, nodeConfig, new SimpleMeterRegistry());
+
+        when(repository.enqueueClaimed(anyCollection(), anyString(), anyLong())).thenReturn(List.of(FIRST, SECOND));
+        when(repository.renewLeases(anyList(), anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("등록하며 임대한 작업은 끝날 때까지 임대를 연장한다")
+    void heldTasksAreRenewed() {
+        queue.enqueueClaimed(List.of(101L, 102L));
+
+        queue.renewLeases();
+        verify(repository).renewLeases(List.of(FIRST, SECOND), 600L);
+    }
+
+    @Test
+    @DisplayName("완료는 가져갈 때의 시도 번호로 확인하고, 완료한 작업은 더 연장하지 않는다")
+    void completedTasksAreFencedAndReleased() {
+        queue.enqueueClaimed(List.of(101L, 102L));
+        when(repository.markDone(List.of(FIRST))).thenReturn(1);
+
+        queue.complete(List.of(FIRST));
+        queue.renewLeases();
+        verify(repository).markDone(List.of(FIRST));
+        verify(repository).renewLeases(List.of(SECOND), 600L);
+    }
+
+    @Test
+    @DisplayName("연장하지 못한 작업(이미 다시 가져간 작업)은 연장 대상에서 뺀다")
+    void lostLeasesAreDropped() {
+        queue.enqueueClaimed(List.of(101L, 102L));
+        when(repository.renewLeases(List.of(FIRST, SECOND), 600L)).thenReturn(List.of(SECOND));
+
+        queue.renewLeases();
+        queue.renewLeases();
+        verify(repository).renewLeases(List.of(FIRST), 600L);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 시도 번호와 함께 실패 처리하고 연장 대상에서 뺀다")
+    void failedTasksAreReleased() {
+        queue.enqueueClaimed(List.of(101L, 102L));
+        when(repository.markFailed(eq(FIRST), anyString(), anyInt(), anyLong())).thenReturn(SummaryTask.Status.PENDING);
+
+        queue.fail(FIRST, "timeout");
+        queue.renewLeases();
+        verify(repository).renewLeases(List.of(SECOND), 600L);
+    }
+
+    @Test
+    @DisplayName("실행이 끝나 놓아준 작업은 상태를 바꾸지 않고 연장만 멈춘다")
+    void releasedTasksStopRenewing() {
+        queue.enqueueClaimed(List.of(101L, 102L));
+
+        queue.release(List.of(FIRST, SECOND));
+        queue.renewLeases();
+        verify(repository, never()).renewLeases(anyList(), anyLong());
+        verify(repository, never()).markDone(any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.newsapp.eyehope.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int KEYS = 2000;
+
+    private static List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 1; i <= KEYS; i++) {
+            keys.add(String.valueOf(i));
+        }
+        return keys;
+    }
+
+    private static Map<String, String> assign(ConsistentHashRing ring) {
+        Map<String, String> owners = new HashMap<>();
+        for (String key : keys()) {
+            owners.put(key, ring.nodeFor(key));
+        }
+        return owners;
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 새 노드로 가는 키만 옮겨지고 그 양은 약 1/n이다")
+    void joinMovesOnlyKeysToNewNode() {
+        Map<String, String> before = assign(new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES));
+        Map<String, String> after = assign(new ConsistentHashRing(
+                List.of("node-a", "node-b", "node-c", "node-d"), VIRTUAL_NODES));
+
+        int moved = 0;
+        for (String key : keys()) {
+            if (!before.get(key).equals(after.get(key))) {
+                assertEquals("node-d", after.get(key));
+                moved++;
+            }
+        }
+        // 기대값 1/4 (500개)
+        assertTrue(moved > KEYS / 8 && moved < KEYS * 3 / 8, "moved=" + moved);
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 그 노드가 담당하던 키만 다른 노드로 옮겨진다")
+    void leaveMovesOnlyKeysOfRemovedNode() {
+        Map<String, String> before = assign(new ConsistentHashRing(
+                List.of("node-a", "node-b", "node-c", "node-d"), VIRTUAL_NODES));
+        Map<String, String> after = assign(new ConsistentHashRing(List.of("node-a", "node-b", "node-d"), VIRTUAL_NODES));
+
+        for (String key : keys()) {
+            if ("node-c".equals(before.get(key))) {
+                assertNotEquals("node-c", after.get(key));
+            } else {
+                assertEquals(before.get(key), after.get(key));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("노드 목록의 순서나 중복과 관계없이 같은 노드가 키를 담당한다")
+    void assignmentIgnoresNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-c", "node-a", "node-b", "node-a"), VIRTUAL_NODES);
+
+        assertEquals(List.of("node-a", "node-b", "node-c"), ring.getNodes());
+        assertEquals(assign(new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES)), assign(ring));
+    }
+
+    @Test
+    @DisplayName("가상 노드로 키가 노드별로 고르게 나뉜다")
+    void keysAreSpreadAcrossNodes() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String owner : assign(new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES)).values()) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        // 기대값 1/3 (약 667개)
+        counts.values().forEach(count -> assertTrue(count > KEYS / 5 && count < KEYS / 2, "count=" + count));
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 담당 노드도 없다")
+    void emptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing(List.of(), VIRTUAL_NODES).nodeFor("1"));
+    }
+}
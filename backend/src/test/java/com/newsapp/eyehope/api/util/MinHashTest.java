@@ -0,0 +1,66 @@
+package com.newsapp.eyehope.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    private static final String RATE_TITLE_A = "한국은행 기준금리 3.25%로 동결…물가 불확실성 고려";
+    private static final String RATE_LEAD_A = "한국은행 금융통화위원회는 17일 통화정책방향 회의를 열고 기준금리를 연 3.25%로 동결했다. "
+            + "금통위는 물가 상승률이 둔화하고 있지만 불확실성이 여전히 크다고 판단했다.";
+    private static final String RATE_TITLE_B = "한은, 기준금리 3.25% 동결 결정…물가 불확실성에 신중";
+    private static final String RATE_LEAD_B = "한국은행 금융통화위원회가 17일 기준금리를 연 3.25%로 동결했다. "
+            + "물가 상승률 둔화에도 불확실성이 크다는 판단에 따른 것이다.";
+    private static final String SPORTS_TITLE = "손흥민, 리그 10호 골 폭발…토트넘 3연승 견인";
+    private static final String SPORTS_LEAD = "토트넘 손흥민이 리그 10호 골을 터뜨리며 팀의 3연승을 이끌었다. "
+            + "손흥민은 후반 교체 투입 후 결승골을 넣었다.";
+
+    @Test
+    @DisplayName("같은 입력은 항상 같은 서명 (노드/재시작 간 일관성)")
+    void signatureIsDeterministic() {
+        assertArrayEquals(MinHash.signature(RATE_TITLE_A, RATE_LEAD_A), MinHash.signature(RATE_TITLE_A, RATE_LEAD_A));
+        assertEquals(1.0, MinHash.similarity(
+                MinHash.signature(RATE_TITLE_A, RATE_LEAD_A), MinHash.signature(RATE_TITLE_A, RATE_LEAD_A)));
+    }
+
+    @Test
+    @DisplayName("같은 사건을 다룬 기사는 무관한 기사보다 훨씬 유사하다")
+    void sameStoryIsMoreSimilarThanUnrelated() {
+        int[] rateA = MinHash.signature(RATE_TITLE_A, RATE_LEAD_A);
+        int[] rateB = MinHash.signature(RATE_TITLE_B, RATE_LEAD_B);
+        int[] sports = MinHash.signature(SPORTS_TITLE, SPORTS_LEAD);
+
+        assertTrue(MinHash.similarity(rateA, rateB) >= 0.3);
+        assertTrue(MinHash.similarity(rateA, sports) < 0.1);
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백, 문장 부호 차이는 무시한다")
+    void normalizeKeepsLettersAndDigits() {
+        assertEquals("ai반도체3nm공정", MinHash.normalize(" AI 반도체, 3nm 공정! "));
+        assertEquals("", MinHash.normalize(null));
+    }
+
+    @Test
+    @DisplayName("특징이 너무 적으면 서명을 만들지 않는다")
+    void tooFewShinglesYieldsNull() {
+        assertNull(MinHash.signature("", null));
+        assertNull(MinHash.signature("속보", null));
+        assertTrue(MinHash.signature(SPORTS_TITLE, null) != null);
+    }
+
+    @Test
+    @DisplayName("바이트 변환 후에도 같은 서명")
+    void bytesRoundTrip() {
+        int[] signature = MinHash.signature(RATE_TITLE_A, RATE_LEAD_A);
+
+        assertArrayEquals(signature, MinHash.fromBytes(MinHash.toBytes(signature)));
+        assertNull(MinHash.fromBytes(new byte[3]));
+        assertNull(MinHash.fromBytes(null));
+    }
+}
@@ -0,0 +1,86 @@
+package com.newsapp.eyehope.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UrlFingerprintTest {
+
+    @Test
+    @DisplayName("스킴, 호스트 대소문자, www, 기본 포트, 끝 슬래시, 프래그먼트 차이는 무시한다")
+    void normalizesSchemeHostPortAndPath() {
+        String expected = "https://news.example.com/article/123";
+
+        assertEquals(expected, UrlFingerprint.canonicalize("http://WWW.News.Example.com/article/123/"));
+        assertEquals(expected, UrlFingerprint.canonicalize("https://news.example.com:443/article/123#comments"));
+        assertEquals(expected, UrlFingerprint.canonicalize("  http://news.example.com:80/article/123  "));
+    }
+
+    @Test
+    @DisplayName("기본 포트가 아니면 유지한다")
+    void keepsNonDefaultPort() {
+        assertEquals("https://news.example.com:8080/a", UrlFingerprint.canonicalize("http://news.example.com:8080/a"));
+    }
+
+    @Test
+    @DisplayName("빈 경로는 /로 맞춘다")
+    void emptyPathBecomesSlash() {
+        assertEquals("https://news.example.com/", UrlFingerprint.canonicalize("https://news.example.com"));
+    }
+
+    @Test
+    @DisplayName("추적용 파라미터를 빼고 나머지 파라미터는 정렬한다")
+    void dropsTrackingParamsAndSortsQuery() {
+        assertEquals("https://news.example.com/view?id=7&sid=101",
+                UrlFingerprint.canonicalize("https://news.example.com/view?utm_source=rss&sid=101&fbclid=x&id=7&gclid=y"));
+        assertEquals("https://news.example.com/view",
+                UrlFingerprint.canonicalize("https://news.example.com/view?utm_medium=feed&&msclkid=z"));
+    }
+
+    @Test
+    @DisplayName("from, ref 같은 파라미터는 설정한 호스트와 그 하위 도메인에서만 뺀다")
+    void hostTrackingParamsApplyToConfiguredHostOnly() {
+        UrlFingerprint.setHostTrackingParams(Map.of("example.com", Set.of("from", "ref")));
+        try {
+            assertEquals("https://news.example.com/view?id=7",
+                    UrlFingerprint.canonicalize("https://news.example.com/view?id=7&from=rss&ref=main"));
+            assertEquals("https://other.example.org/view?from=rss&id=7",
+                    UrlFingerprint.canonicalize("https://other.example.org/view?id=7&from=rss"));
+        } finally {
+            UrlFingerprint.setHostTrackingParams(Map.of());
+        }
+        assertEquals("https://news.example.com/view?from=rss&id=7",
+                UrlFingerprint.canonicalize("https://news.example.com/view?id=7&from=rss"));
+    }
+
+    @Test
+    @DisplayName("파라미터 값의 대소문자와 인코딩은 그대로 둔다")
+    void keepsQueryValues() {
+        assertEquals("https://news.example.com/view?id=AbC%20d",
+                UrlFingerprint.canonicalize("https://news.example.com/view?id=AbC%20d"));
+    }
+
+    @Test
+    @DisplayName("URI로 해석할 수 없으면 앞뒤 공백만 제거한다")
+    void unparseableUrlIsTrimmed() {
+        assertEquals("not a url", UrlFingerprint.canonicalize(" not a url "));
+        assertEquals("/relative/path", UrlFingerprint.canonicalize("/relative/path"));
+    }
+
+    @Test
+    @DisplayName("정규화 결과가 같으면 지문도 같다")
+    void fingerprintFollowsCanonicalForm() {
+        assertEquals(UrlFingerprint.of("http://www.news.example.com/a?utm_source=x"),
+                UrlFingerprint.of("https://news.example.com/a"));
+        assertNotEquals(UrlFingerprint.of("https://news.example.com/a"),
+                UrlFingerprint.of("https://news.example.com/b"));
+        assertNull(UrlFingerprint.of(" "));
+        assertNull(UrlFingerprint.of(null));
+    }
+}